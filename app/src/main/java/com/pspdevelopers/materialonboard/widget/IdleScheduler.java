@@ -0,0 +1,151 @@
+package com.pspdevelopers.materialonboard.widget;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Process wide timer which notifies indicators when they were not interacted for their idle duration.
+ * Every callback only stores its deadline, and a single message is kept in the main looper queue for the earliest one.
+ * Moving a deadline later, as every touch does, never touches the queue: the message wakes up at the old deadline
+ * and is posted again for the new earliest one. Must be used from the main thread.
+ */
+public class IdleScheduler implements Runnable {
+
+    private static final long DEADLINE_NONE = Long.MAX_VALUE;
+
+    private static IdleScheduler instance;
+
+    private final ArrayList<Callback> callbacks = new ArrayList<>();
+    private long[] deadlines = new long[4];
+    private Handler handler;
+
+    private long pendingDeadline = DEADLINE_NONE;
+
+    IdleScheduler() {
+    }
+
+    @NonNull
+    public static IdleScheduler getInstance() {
+        if (instance == null) {
+            instance = new IdleScheduler();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Notify callback once, after given delay. Replaces previous deadline of the same callback.
+     *
+     * @param callback callback to notify.
+     * @param delayMillis time in millis after which callback is notified.
+     */
+    public void schedule(@NonNull Callback callback, long delayMillis) {
+        long deadline = now() + Math.max(0, delayMillis);
+        int index = callbacks.indexOf(callback);
+        if (index < 0) {
+            index = callbacks.size();
+            callbacks.add(callback);
+            ensureCapacity(index + 1);
+        }
+
+        deadlines[index] = deadline;
+        if (deadline < pendingDeadline) {
+            post(deadline);
+        }
+    }
+
+    /**
+     * Drop deadline of callback, if any. Pending message is left in place even when no deadline is left,
+     * since it references only the scheduler, so a touch which cancels and schedules again never touches the queue.
+     */
+    public void cancel(@NonNull Callback callback) {
+        int index = callbacks.indexOf(callback);
+        if (index < 0) {
+            return;
+        }
+
+        int last = callbacks.size() - 1;
+        callbacks.set(index, callbacks.get(last));
+        deadlines[index] = deadlines[last];
+        callbacks.remove(last);
+    }
+
+    public boolean isScheduled(@NonNull Callback callback) {
+        return callbacks.contains(callback);
+    }
+
+    @Override
+    public void run() {
+        pendingDeadline = DEADLINE_NONE;
+        long now = now();
+        long nextDeadline = DEADLINE_NONE;
+
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            if (i >= callbacks.size()) {
+                // Callback cancelled others while being notified.
+                continue;
+            }
+
+            long deadline = deadlines[i];
+            if (deadline > now) {
+                nextDeadline = Math.min(nextDeadline, deadline);
+                continue;
+            }
+
+            Callback callback = callbacks.get(i);
+            cancel(callback);
+            callback.onIdle();
+        }
+
+        // Callbacks may have scheduled themselves again while being notified.
+        for (int i = 0; i < callbacks.size(); i++) {
+            nextDeadline = Math.min(nextDeadline, deadlines[i]);
+        }
+
+        if (nextDeadline != DEADLINE_NONE && nextDeadline < pendingDeadline) {
+            post(nextDeadline);
+        }
+    }
+
+    long now() {
+        return SystemClock.uptimeMillis();
+    }
+
+    /**
+     * Post message which runs scheduler at given uptime, replacing pending one.
+     */
+    void postAtTime(long uptimeMillis) {
+        if (handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+        }
+
+        handler.removeCallbacks(this);
+        handler.postAtTime(this, uptimeMillis);
+    }
+
+    private void post(long deadline) {
+        pendingDeadline = deadline;
+        postAtTime(deadline);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (deadlines.length < capacity) {
+            long[] grown = new long[Math.max(capacity, deadlines.length * 2)];
+            System.arraycopy(deadlines, 0, grown, 0, deadlines.length);
+            deadlines = grown;
+        }
+    }
+
+    public interface Callback {
+
+        /**
+         * Called on the main thread once deadline of callback has passed.
+         */
+        void onIdle();
+    }
+}
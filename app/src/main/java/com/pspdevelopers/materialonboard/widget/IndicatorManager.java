@@ -1,6 +1,11 @@
 package com.pspdevelopers.materialonboard.widget;
 
+import android.graphics.Rect;
+import android.os.Build;
+import android.os.Trace;
+
 import com.pspdevelopers.materialonboard.widget.animation.AnimationManager;
+import com.pspdevelopers.materialonboard.widget.animation.controller.FrameClock;
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.draw.DrawManager;
@@ -8,11 +13,21 @@ import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 
 import androidx.annotation.Nullable;
 
-public class IndicatorManager implements ValueController.UpdateListener {
+public class IndicatorManager implements ValueController.UpdateListener, FrameClock.Callback {
+
+    private static final String TRACE_VALUE_UPDATES = "PageIndicatorView#valueUpdates";
+    private static final String TRACE_FRAME_UPDATES = "PageIndicatorView#frameUpdates";
 
     private DrawManager drawManager;
     private AnimationManager animationManager;
     private Listener listener;
+    private Rect dirtyBounds = new Rect();
+
+    private Value pendingValue;
+    private boolean hasPendingValue;
+
+    private long valueUpdateCount;
+    private long frameUpdateCount;
 
     IndicatorManager(@Nullable Listener listener) {
         this.listener = listener;
@@ -32,15 +47,84 @@ public class IndicatorManager implements ValueController.UpdateListener {
         return drawManager;
     }
 
+    void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Return true if a value is waiting to be applied on the next frame.
+     */
+    boolean hasPendingValue() {
+        return hasPendingValue;
+    }
+
+    /**
+     * Keep only the latest value and apply it once per frame,
+     * so several updates arriving within one vsync cause a single redraw.
+     */
     @Override
     public void onValueUpdated(@Nullable Value value) {
+        pendingValue = value;
+        valueUpdateCount++;
+
+        if (!hasPendingValue) {
+            hasPendingValue = true;
+            FrameClock.getInstance().add(this);
+        }
+    }
+
+    @Override
+    public boolean doFrame(long frameTimeNanos) {
+        flush();
+        return false;
+    }
+
+    /**
+     * Apply pending value right away instead of waiting for the next frame.
+     */
+    public void flush() {
+        if (!hasPendingValue) {
+            return;
+        }
+
+        Value value = pendingValue;
+        pendingValue = null;
+        hasPendingValue = false;
+        frameUpdateCount++;
+        FrameClock.getInstance().remove(this);
+
         drawManager.updateValue(value);
         if (listener != null) {
-            listener.onIndicatorUpdated();
+            boolean hasDirtyBounds = drawManager.getDirtyBounds(dirtyBounds) && !animationManager.isBlending();
+            listener.onIndicatorUpdated(hasDirtyBounds ? dirtyBounds : null);
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q && Trace.isEnabled()) {
+            Trace.setCounter(TRACE_VALUE_UPDATES, valueUpdateCount);
+            Trace.setCounter(TRACE_FRAME_UPDATES, frameUpdateCount);
         }
     }
 
+    /**
+     * Return number of animation values received since creation or last {@link #resetUpdateCounts()}.
+     */
+    public long getValueUpdateCount() {
+        return valueUpdateCount;
+    }
+
+    /**
+     * Return number of values actually applied and redrawn, at most one per frame.
+     */
+    public long getFrameUpdateCount() {
+        return frameUpdateCount;
+    }
+
+    public void resetUpdateCounts() {
+        valueUpdateCount = 0;
+        frameUpdateCount = 0;
+    }
+
     interface Listener {
-        void onIndicatorUpdated();
+        void onIndicatorUpdated(@Nullable Rect dirtyBounds);
     }
 }
@@ -0,0 +1,480 @@
+package com.pspdevelopers.materialonboard.widget;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PixelFormat;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.AttributeSet;
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.draw.DrawManager;
+import com.pspdevelopers.materialonboard.widget.draw.controller.MeasureController;
+import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.ScrollProgress;
+import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewpager.widget.ViewPager;
+
+/**
+ * Page indicator which animates and draws on its own render thread instead of the UI thread,
+ * for screens where UI thread is too busy to keep {@link PageIndicatorView} smooth.
+ * Main thread only hands the latest page state over through a single-slot mailbox,
+ * render thread applies it, runs the animation and draws frames only while something changes.
+ * Appearance is set with the same xml attributes as {@link PageIndicatorView}.
+ */
+public class PageIndicatorSurfaceView extends SurfaceView implements SurfaceHolder.Callback, ViewPager.OnPageChangeListener {
+
+    private static final String RENDER_THREAD_NAME = "PageIndicatorRender";
+
+    private DrawManager layoutManager;
+    private IndicatorManager renderManager;
+    private RenderThread renderThread;
+    private ViewPager viewPager;
+    private boolean isInteractionEnabled;
+
+    private PageState state = new PageState();
+    private AtomicReference<PageState> mailbox = new AtomicReference<>();
+    private AtomicReference<PageState> spareState = new AtomicReference<>();
+
+    public PageIndicatorSurfaceView(Context context) {
+        super(context);
+        init(null);
+    }
+
+    public PageIndicatorSurfaceView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init(attrs);
+    }
+
+    public PageIndicatorSurfaceView(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init(attrs);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        startRenderThread();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        stopRenderThread();
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        long size = layoutManager.measureViewSize(widthMeasureSpec, heightMeasureSpec);
+        setMeasuredDimension(MeasureController.getWidth(size), MeasureController.getHeight(size));
+    }
+
+    @Override
+    public void surfaceCreated(@NonNull SurfaceHolder holder) {
+        if (renderThread != null) {
+            renderThread.setSurface(holder);
+        }
+    }
+
+    @Override
+    public void surfaceChanged(@NonNull SurfaceHolder holder, int format, int width, int height) {
+        state.width = width;
+        state.height = height;
+        post();
+    }
+
+    @Override
+    public void surfaceDestroyed(@NonNull SurfaceHolder holder) {
+        if (renderThread != null) {
+            renderThread.setSurface(null);
+        }
+    }
+
+    @Override
+    public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+        state.scrollPosition = position;
+        state.scrollOffset = positionOffset;
+        state.scrollVersion++;
+        post();
+    }
+
+    @Override
+    public void onPageSelected(int position) {
+        setSelection(position);
+    }
+
+    @Override
+    public void onPageScrollStateChanged(int state) {
+        if (state == ViewPager.SCROLL_STATE_IDLE) {
+            this.state.idleVersion++;
+            post();
+        }
+    }
+
+    /**
+     * Set {@link ViewPager} to follow its adapter count, selected page and scroll progress.
+     *
+     * @param pager instance of {@link ViewPager} to work with
+     */
+    public void setViewPager(@Nullable ViewPager pager) {
+        releaseViewPager();
+        if (pager == null) {
+            return;
+        }
+
+        viewPager = pager;
+        viewPager.addOnPageChangeListener(this);
+
+        if (viewPager.getAdapter() != null) {
+            setCount(viewPager.getAdapter().getCount());
+        }
+        setSelection(viewPager.getCurrentItem());
+    }
+
+    public void releaseViewPager() {
+        if (viewPager != null) {
+            viewPager.removeOnPageChangeListener(this);
+            viewPager = null;
+        }
+    }
+
+    public void setCount(int count) {
+        Indicator indicator = layoutManager.indicator();
+        if (count < 0 || indicator.getCount() == count) {
+            return;
+        }
+
+        indicator.setCount(count);
+        if (indicator.consumeDirtyFlags() != Indicator.DIRTY_NONE) {
+            requestLayout();
+        }
+
+        state.count = count;
+        post();
+    }
+
+    public int getCount() {
+        return layoutManager.indicator().getCount();
+    }
+
+    /**
+     * Select circle indicator at given position. Animation runs on render thread.
+     */
+    public void setSelection(int position) {
+        state.selection = position;
+        post();
+    }
+
+    public int getSelection() {
+        return state.selection;
+    }
+
+    /**
+     * Hand a copy of current page state over to render thread, replacing copy it hasn't picked up yet.
+     * Render thread is woken up only when the mailbox was empty.
+     */
+    private void post() {
+        PageState update = spareState.getAndSet(null);
+        if (update == null) {
+            update = new PageState();
+        }
+
+        update.set(state);
+        PageState previous = mailbox.getAndSet(update);
+
+        if (previous != null) {
+            spareState.set(previous);
+        } else if (renderThread != null) {
+            renderThread.wakeUp();
+        }
+    }
+
+    private void init(@Nullable AttributeSet attrs) {
+        layoutManager = createDrawManager(attrs);
+        renderManager = new IndicatorManager(null);
+        renderManager.drawer().initAttributes(getContext(), attrs);
+        initIndicator(renderManager.indicator());
+
+        Indicator indicator = layoutManager.indicator();
+        isInteractionEnabled = indicator.isInteractiveAnimation();
+        state.count = indicator.getCount();
+        state.selection = indicator.getSelectedPosition();
+
+        getHolder().setFormat(PixelFormat.TRANSLUCENT);
+        getHolder().addCallback(this);
+        setZOrderOnTop(true);
+    }
+
+    @NonNull
+    private DrawManager createDrawManager(@Nullable AttributeSet attrs) {
+        DrawManager drawManager = new DrawManager();
+        drawManager.initAttributes(getContext(), attrs);
+        initIndicator(drawManager.indicator());
+        return drawManager;
+    }
+
+    private void initIndicator(@NonNull Indicator indicator) {
+        indicator.setPaddingLeft(getPaddingLeft());
+        indicator.setPaddingTop(getPaddingTop());
+        indicator.setPaddingRight(getPaddingRight());
+        indicator.setPaddingBottom(getPaddingBottom());
+        indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition()));
+        indicator.consumeDirtyFlags();
+    }
+
+    private void startRenderThread() {
+        if (renderThread != null) {
+            return;
+        }
+
+        renderThread = new RenderThread(renderManager, isInteractionEnabled);
+        renderThread.start();
+        renderThread.wakeUp();
+    }
+
+    private void stopRenderThread() {
+        if (renderThread == null) {
+            return;
+        }
+
+        renderThread.setSurface(null);
+        renderThread.quitSafely();
+
+        // Wait for the last frame, so a new render thread never shares indicator state with this one.
+        try {
+            renderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        renderThread = null;
+    }
+
+    /**
+     * Page state as seen by main thread. Render thread gets copies of it through the mailbox,
+     * so both threads never touch the same instance at the same time.
+     */
+    private static final class PageState {
+
+        private int count;
+        private int selection;
+        private int width;
+        private int height;
+
+        private int scrollPosition;
+        private float scrollOffset;
+        private long scrollVersion;
+        private long idleVersion;
+
+        void set(@NonNull PageState state) {
+            count = state.count;
+            selection = state.selection;
+            width = state.width;
+            height = state.height;
+            scrollPosition = state.scrollPosition;
+            scrollOffset = state.scrollOffset;
+            scrollVersion = state.scrollVersion;
+            idleVersion = state.idleVersion;
+        }
+    }
+
+    /**
+     * Owns {@link IndicatorManager} of the view while running. Indicator animations tick from
+     * this thread's own frame clock, and every animation frame is drawn straight onto the surface.
+     */
+    private final class RenderThread extends HandlerThread implements IndicatorManager.Listener {
+
+        private final Object surfaceLock = new Object();
+
+        private IndicatorManager manager;
+        private Handler handler;
+        private SurfaceHolder surfaceHolder;
+
+        private PageState applied = new PageState();
+        private ScrollProgress scrollProgress = new ScrollProgress();
+        private boolean isInteractionEnabled;
+
+        private Runnable drainRunnable = new Runnable() {
+            @Override
+            public void run() {
+                drainMailbox();
+            }
+        };
+
+        RenderThread(@NonNull IndicatorManager manager, boolean isInteractionEnabled) {
+            super(RENDER_THREAD_NAME, Process.THREAD_PRIORITY_DISPLAY);
+            this.manager = manager;
+            this.isInteractionEnabled = isInteractionEnabled;
+        }
+
+        @Override
+        protected void onLooperPrepared() {
+            manager.setListener(this);
+            manager.flush();
+
+            Indicator indicator = manager.indicator();
+            applied.count = indicator.getCount();
+            applied.selection = indicator.getSelectedPosition();
+            applied.width = indicator.getWidth();
+            applied.height = indicator.getHeight();
+        }
+
+        void wakeUp() {
+            if (handler == null) {
+                handler = new Handler(getLooper());
+            }
+
+            handler.post(drainRunnable);
+        }
+
+        /**
+         * Set surface to draw on, or null to stop drawing. Returns only after frame being drawn is finished,
+         * so surface can be destroyed right after.
+         */
+        void setSurface(@Nullable SurfaceHolder holder) {
+            synchronized (surfaceLock) {
+                surfaceHolder = holder;
+            }
+
+            if (holder != null) {
+                wakeUp();
+            }
+        }
+
+        @Override
+        public void onIndicatorUpdated(@Nullable Rect dirtyBounds) {
+            render();
+        }
+
+        private void drainMailbox() {
+            PageState update = mailbox.getAndSet(null);
+            if (update != null) {
+                apply(update);
+                applied.set(update);
+                spareState.set(update);
+            }
+
+            if (!manager.hasPendingValue()) {
+                render();
+            }
+        }
+
+        private void apply(@NonNull PageState update) {
+            Indicator indicator = manager.indicator();
+
+            if (update.width != applied.width || update.height != applied.height) {
+                indicator.setWidth(update.width);
+                indicator.setHeight(update.height);
+            }
+
+            if (update.count != applied.count) {
+                indicator.setCount(update.count);
+                indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition()));
+            }
+
+            if (update.idleVersion != applied.idleVersion) {
+                indicator.setInteractiveAnimation(isInteractionEnabled);
+            }
+
+            if (update.scrollVersion != applied.scrollVersion) {
+                scroll(update.scrollPosition, update.scrollOffset);
+            }
+
+            if (update.selection != applied.selection) {
+                select(update.selection);
+            }
+
+            indicator.consumeDirtyFlags();
+        }
+
+        private void select(int position) {
+            Indicator indicator = manager.indicator();
+            int count = indicator.getCount();
+            if (count <= 0) {
+                return;
+            }
+
+            position = Math.max(0, Math.min(position, count - 1));
+            if (position == indicator.getSelectedPosition() || position == indicator.getSelectingPosition()) {
+                return;
+            }
+
+            indicator.setInteractiveAnimation(false);
+            indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+            indicator.setSelectingPosition(position);
+            indicator.setSelectedPosition(position);
+            indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, position));
+            manager.animate().basic();
+        }
+
+        private void scroll(int position, float positionOffset) {
+            Indicator indicator = manager.indicator();
+            boolean canScroll = indicator.isInteractiveAnimation()
+                    && indicator.getAnimationType() != AnimationType.NONE
+                    && indicator.getCount() > 0;
+
+            if (!canScroll) {
+                return;
+            }
+
+            CoordinatesUtils.getProgress(indicator, position, positionOffset, false, scrollProgress);
+            int selectingPosition = scrollProgress.getSelectingPosition();
+            float progress = scrollProgress.getSelectingProgress();
+
+            if (indicator.isWindowed()) {
+                float fromOffset = CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition());
+                float toOffset = CoordinatesUtils.getWindowOffset(indicator, selectingPosition);
+                indicator.setWindowOffset(fromOffset + (toOffset - fromOffset) * progress);
+            }
+
+            if (progress == 1) {
+                indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+                indicator.setSelectedPosition(selectingPosition);
+            }
+
+            indicator.setSelectingPosition(selectingPosition);
+            manager.animate().interactive(progress);
+        }
+
+        private void render() {
+            synchronized (surfaceLock) {
+                if (surfaceHolder == null || !surfaceHolder.getSurface().isValid()) {
+                    return;
+                }
+
+                Canvas canvas = lockCanvas(surfaceHolder);
+                if (canvas == null) {
+                    return;
+                }
+
+                try {
+                    canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+                    manager.drawer().draw(canvas);
+                } finally {
+                    surfaceHolder.unlockCanvasAndPost(canvas);
+                }
+            }
+        }
+
+        @Nullable
+        private Canvas lockCanvas(@NonNull SurfaceHolder holder) {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                return holder.lockHardwareCanvas();
+            }
+
+            return holder.lockCanvas();
+        }
+    }
+}
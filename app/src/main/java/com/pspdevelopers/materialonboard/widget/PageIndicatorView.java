@@ -1,27 +1,45 @@
 package com.pspdevelopers.materialonboard.widget;
 
+import android.animation.ValueAnimator;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
+import android.content.BroadcastReceiver;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.database.ContentObserver;
 import android.database.DataSetObserver;
 import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.net.Uri;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Parcelable;
+import android.os.PowerManager;
+import android.provider.Settings;
 import android.util.AttributeSet;
-import android.util.Pair;
+import android.util.Log;
+import android.view.Display;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
 
+import com.pspdevelopers.materialonboard.widget.animation.controller.FrameClock;
+import com.pspdevelopers.materialonboard.widget.animation.controller.QualityGovernor;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.ColorPalette;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.Interpolation;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationTiming;
 import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
 import com.pspdevelopers.materialonboard.widget.animation.type.ScaleAnimation;
 import com.pspdevelopers.materialonboard.widget.draw.controller.DrawController;
+import com.pspdevelopers.materialonboard.widget.draw.controller.MeasureController;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
 import com.pspdevelopers.materialonboard.widget.draw.data.PositionSavedState;
+import com.pspdevelopers.materialonboard.widget.draw.data.RenderMode;
+import com.pspdevelopers.materialonboard.widget.draw.data.ScrollProgress;
 import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
 import com.pspdevelopers.materialonboard.widget.utils.DensityUtils;
 
@@ -32,15 +50,29 @@ import androidx.viewpager.widget.ViewPager;
 
 public class PageIndicatorView extends View implements ViewPager.OnPageChangeListener, IndicatorManager.Listener, ViewPager.OnAdapterChangeListener, View.OnTouchListener {
 
-    private static final Handler HANDLER = new Handler(Looper.getMainLooper());
+    private static final String TAG = "PageIndicatorView";
+    private static final long SCROLL_TIME_NONE = -1;
 
     private IndicatorManager manager;
+    private ScrollProgress scrollProgress = new ScrollProgress();
     private DataSetObserver setObserver;
     private ViewPager viewPager;
     private boolean isInteractionEnabled;
-    private Runnable idleRunnable = new Runnable() {
+    private ValueAnimator windowAnimator;
+    private float lastScrollPosition;
+    private long lastScrollTimeNanos = SCROLL_TIME_NONE;
+    private BroadcastReceiver powerSaveReceiver;
+    private ContentObserver durationScaleObserver;
+    private Editor editor;
+    private FrameClock.Callback scrollFrameCallback;
+    private int pendingScrollPosition;
+    private float pendingScrollOffset;
+    private boolean hasPendingScroll;
+    private float windowStartOffset;
+    private float windowEndOffset;
+    private IdleScheduler.Callback idleCallback = new IdleScheduler.Callback() {
         @Override
-        public void run() {
+        public void onIdle() {
             manager.indicator().setIdle(true);
             hideWithAnimation();
         }
@@ -71,11 +103,19 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
         findViewPager(getParent());
+        registerQualityMonitor();
+
+        if (manager.indicator().isFadeOnIdle()) {
+            startIdleTimer();
+        }
     }
 
     @Override
     protected void onDetachedFromWindow() {
         unRegisterSetObserver();
+        unRegisterQualityMonitor();
+        cancelPendingScroll();
+        IdleScheduler.getInstance().cancel(idleCallback);
         super.onDetachedFromWindow();
     }
 
@@ -98,6 +138,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
             indicator.setSelectedPosition(positionSavedState.getSelectedPosition());
             indicator.setSelectingPosition(positionSavedState.getSelectingPosition());
             indicator.setLastSelectedPosition(positionSavedState.getLastSelectedPosition());
+            moveWindow(false);
             super.onRestoreInstanceState(positionSavedState.getSuperState());
 
         } else {
@@ -107,8 +148,8 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        Pair<Integer, Integer> pair = manager.drawer().measureViewSize(widthMeasureSpec, heightMeasureSpec);
-        setMeasuredDimension(pair.first, pair.second);
+        long size = manager.drawer().measureViewSize(widthMeasureSpec, heightMeasureSpec);
+        setMeasuredDimension(MeasureController.getWidth(size), MeasureController.getHeight(size));
     }
 
     @Override
@@ -129,19 +170,24 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
         switch (event.getAction()) {
             case MotionEvent.ACTION_DOWN:
-                stopIdleRunnable();
+                stopIdleTimer();
                 break;
 
             case MotionEvent.ACTION_UP:
-                startIdleRunnable();
+                startIdleTimer();
                 break;
         }
         return false;
     }
 
+    @SuppressWarnings("deprecation")
     @Override
-    public void onIndicatorUpdated() {
-        invalidate();
+    public void onIndicatorUpdated(@Nullable Rect dirtyBounds) {
+        if (dirtyBounds != null) {
+            invalidate(dirtyBounds);
+        } else {
+            invalidate();
+        }
     }
 
     @Override
@@ -157,7 +203,10 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     @Override
     public void onPageScrollStateChanged(int state) {
         if (state == ViewPager.SCROLL_STATE_IDLE) {
+            flushPendingScroll();
             manager.indicator().setInteractiveAnimation(isInteractionEnabled);
+            manager.indicator().setScrollVelocity(0);
+            lastScrollTimeNanos = SCROLL_TIME_NONE;
         }
     }
 
@@ -180,6 +229,23 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         return manager.indicator().getCount();
     }
 
+    /**
+     * Start a batch of changes which are validated and applied together by {@link Editor#apply()},
+     * causing at most one layout and one redraw instead of one per setter.
+     * Editor is reused, so calling edit() again discards changes which were not applied yet.
+     *
+     * @return editor to chain changes on.
+     */
+    @NonNull
+    public Editor edit() {
+        if (editor == null) {
+            editor = new Editor();
+        }
+
+        editor.clear();
+        return editor;
+    }
+
     /**
      * Set static number of circle indicators to be displayed.
      *
@@ -188,11 +254,33 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     public void setCount(int count) {
         if (count >= 0 && manager.indicator().getCount() != count) {
             manager.indicator().setCount(count);
+            moveWindow(false);
             updateVisibility();
-            requestLayout();
+            applyIndicatorChanges();
         }
     }
 
+    /**
+     * Limit number of circle indicators displayed at once. When count is bigger, only a window of circles
+     * around selected one is drawn, window smoothly follows selection and circles at its edges are scaled down.
+     * Default value is {@link Indicator#MAX_VISIBLE_COUNT_ALL}, which displays all circle indicators.
+     *
+     * @param maxVisibleCount maximum number of circles to display, or {@link Indicator#MAX_VISIBLE_COUNT_ALL}.
+     */
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        if (maxVisibleCount < 0) {
+            maxVisibleCount = Indicator.MAX_VISIBLE_COUNT_ALL;
+        }
+
+        manager.indicator().setMaxVisibleCount(maxVisibleCount);
+        moveWindow(false);
+        applyIndicatorChanges();
+    }
+
+    public int getMaxVisibleCount() {
+        return manager.indicator().getMaxVisibleCount();
+    }
+
     /**
      * Dynamic count will automatically update number of circle indicators
      * if {@link ViewPager} page count updates on run-time. If new count will be bigger than current count,
@@ -222,9 +310,9 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     public void setFadeOnIdle(boolean fadeOnIdle) {
         manager.indicator().setFadeOnIdle(fadeOnIdle);
         if (fadeOnIdle) {
-            startIdleRunnable();
+            startIdleTimer();
         } else {
-            stopIdleRunnable();
+            stopIdleTimer();
         }
     }
 
@@ -241,7 +329,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
         int radiusPx = DensityUtils.dpToPx(radiusDp);
         manager.indicator().setRadius(radiusPx);
-        invalidate();
+        applyIndicatorChanges();
     }
 
     /**
@@ -264,7 +352,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         }
 
         manager.indicator().setRadius((int) radiusPx);
-        invalidate();
+        applyIndicatorChanges();
     }
 
     /**
@@ -279,7 +367,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
         int paddingPx = DensityUtils.dpToPx(paddingDp);
         manager.indicator().setPadding(paddingPx);
-        invalidate();
+        applyIndicatorChanges();
     }
 
     /**
@@ -301,7 +389,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         }
 
         manager.indicator().setPadding((int) paddingPx);
-        invalidate();
+        applyIndicatorChanges();
     }
 
     public float getScaleFactor() {
@@ -332,7 +420,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         }
 
         manager.indicator().setStroke((int) strokePx);
-        invalidate();
+        applyIndicatorChanges();
     }
 
 
@@ -353,7 +441,26 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         }
 
         manager.indicator().setStroke(strokePx);
-        invalidate();
+        applyIndicatorChanges();
+    }
+
+    /**
+     * Set extra touch area in px around each circle indicator, used to detect which circle was clicked.
+     * Default value is {@link Indicator#TOUCH_SLOP_SLOT}, which splits the whole view into equal slots,
+     * one per circle indicator.
+     *
+     * @param touchSlopPx touch area around each circle in px, or {@link Indicator#TOUCH_SLOP_SLOT}.
+     */
+    public void setTouchSlop(int touchSlopPx) {
+        if (touchSlopPx < 0) {
+            touchSlopPx = Indicator.TOUCH_SLOP_SLOT;
+        }
+
+        manager.indicator().setTouchSlop(touchSlopPx);
+    }
+
+    public int getTouchSlop() {
+        return manager.indicator().getTouchSlop();
     }
 
     public int getSelectedColor() {
@@ -363,7 +470,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
     public void setSelectedColor(int color) {
         manager.indicator().setSelectedColor(color);
-        invalidate();
+        applyIndicatorChanges();
     }
 
     public int getUnselectedColor() {
@@ -373,7 +480,26 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
 
     public void setUnselectedColor(int color) {
         manager.indicator().setUnselectedColor(color);
-        invalidate();
+        applyIndicatorChanges();
+    }
+
+    /**
+     * Set number of colors precomputed between unselected and selected color
+     * for color based animations. Higher resolution gives smoother color transition.
+     * Default is {@link ColorPalette#DEFAULT_RESOLUTION}.
+     *
+     * @param colorResolution number of precomputed colors, at least {@link ColorPalette#MIN_RESOLUTION}.
+     */
+    public void setColorResolution(int colorResolution) {
+        if (colorResolution < ColorPalette.MIN_RESOLUTION) {
+            colorResolution = ColorPalette.MIN_RESOLUTION;
+        }
+
+        manager.indicator().setColorResolution(colorResolution);
+    }
+
+    public int getColorResolution() {
+        return manager.indicator().getColorResolution();
     }
 
     /**
@@ -400,7 +526,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     public void setOrientation(@Nullable Orientation orientation) {
         if (orientation != null) {
             manager.indicator().setOrientation(orientation);
-            requestLayout();
+            applyIndicatorChanges();
         }
     }
 
@@ -414,9 +540,9 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     public void setIdleDuration(long duration) {
         manager.indicator().setIdleDuration(duration);
         if (manager.indicator().isFadeOnIdle()) {
-            startIdleRunnable();
+            startIdleTimer();
         } else {
-            stopIdleRunnable();
+            stopIdleTimer();
         }
     }
 
@@ -436,16 +562,123 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * @param type type of animation, one of {@link AnimationType}
      */
     public void setAnimationType(@Nullable AnimationType type) {
+        // Drop value of previous type right away, it must not be drawn by the drawer of the new type.
         manager.onValueUpdated(null);
+        manager.flush();
 
         if (type != null) {
             manager.indicator().setAnimationType(type);
         } else {
             manager.indicator().setAnimationType(AnimationType.NONE);
         }
+
+        applyIndicatorChanges();
+    }
+
+    /**
+     * Set render mode of indicator. {@link RenderMode#CACHED} records circles which are not animating
+     * once and replays the recording on every frame, recording it again only when geometry, colors or selection change.
+     * Recording is kept in a RenderNode display list on API 29+ and in a Picture on older versions.
+     * Default render mode is {@link RenderMode#DIRECT}.
+     *
+     * @param renderMode render mode, one of {@link RenderMode}
+     */
+    public void setRenderMode(@Nullable RenderMode renderMode) {
+        if (renderMode == null) {
+            renderMode = RenderMode.DIRECT;
+        }
+
+        manager.indicator().setRenderMode(renderMode);
+        if (renderMode == RenderMode.DIRECT) {
+            manager.drawer().releaseStaticLayer();
+        }
         invalidate();
     }
 
+    @NonNull
+    public RenderMode getRenderMode() {
+        return manager.indicator().getRenderMode();
+    }
+
+    /**
+     * Set timing model of animation performed while selecting new circle indicator.
+     * {@link AnimationTiming#SPRING} lets a spring settle indicator, starting with the velocity of pager fling,
+     * so short flicks finish faster. Default is {@link AnimationTiming#DURATION}.
+     *
+     * @param timing timing model of animation, one of {@link AnimationTiming}
+     */
+    public void setAnimationTiming(@Nullable AnimationTiming timing) {
+        if (timing == null) {
+            timing = AnimationTiming.DURATION;
+        }
+
+        manager.indicator().setAnimationTiming(timing);
+    }
+
+    @NonNull
+    public AnimationTiming getAnimationTiming() {
+        return manager.indicator().getAnimationTiming();
+    }
+
+    /**
+     * Return number of animation values received by indicator.
+     * Compare with {@link #getFrameUpdateCount()} to see how many of them were coalesced within a frame.
+     */
+    public long getValueUpdateCount() {
+        return manager.getValueUpdateCount();
+    }
+
+    /**
+     * Return number of redraws requested by animation values, at most one per frame.
+     */
+    public long getFrameUpdateCount() {
+        return manager.getFrameUpdateCount();
+    }
+
+    public void resetUpdateCounts() {
+        manager.resetUpdateCounts();
+    }
+
+    /**
+     * Adaptive quality steps animation down to {@link AnimationType#COLOR} and then to {@link AnimationType#NONE}
+     * when indicator animations drop frames, battery saver is on or animations are disabled in developer settings,
+     * and steps it back up to requested type once device recovers. Disabled by default.
+     *
+     * @param adaptiveQuality true to let indicator lower animation quality on slow devices.
+     */
+    public void setAdaptiveQuality(boolean adaptiveQuality) {
+        manager.indicator().setAdaptiveQuality(adaptiveQuality);
+        manager.animate().qualityGovernor().reset();
+
+        if (adaptiveQuality && isAttachedToWindow()) {
+            registerQualityMonitor();
+        } else {
+            unRegisterQualityMonitor();
+        }
+    }
+
+    public boolean isAdaptiveQuality() {
+        return manager.indicator().isAdaptiveQuality();
+    }
+
+    /**
+     * Throttled scroll keeps only the latest pager scroll event and updates indicator once per frame,
+     * so touch screens reporting scroll faster than display refresh rate don't cause extra work.
+     * Scroll event which settles pager on a page is still applied right away. Disabled by default.
+     *
+     * @param scrollThrottled true to update indicator from pager scroll at most once per frame.
+     */
+    public void setScrollThrottled(boolean scrollThrottled) {
+        manager.indicator().setScrollThrottled(scrollThrottled);
+        if (!scrollThrottled) {
+            flushPendingScroll();
+        }
+    }
+
+    public boolean isScrollThrottled() {
+        return manager.indicator().isScrollThrottled();
+    }
+
     /**
      * Interactive animation will animate indicator smoothly
      * from position to position based on user's current swipe progress.
@@ -485,6 +718,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * Release {@link ViewPager} and stop handling events of {@link ViewPager.OnPageChangeListener}.
      */
     public void releaseViewPager() {
+        cancelPendingScroll();
         if (viewPager != null) {
             viewPager.removeOnPageChangeListener(this);
             viewPager.removeOnAdapterChangeListener(this);
@@ -504,6 +738,20 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * @param position position of indicator to select.
      */
     public void setSelection(int position) {
+        setSelection(position, true);
+    }
+
+    /**
+     * Set specific circle indicator position to be selected without any kind of animation. If position < or > total count,
+     * accordingly first or last circle indicator will be selected.
+     *
+     * @param position position of indicator to select.
+     */
+    public void setSelected(int position) {
+        setSelection(position, false);
+    }
+
+    private void setSelection(int position, boolean animated) {
         Indicator indicator = manager.indicator();
         position = adjustPosition(position);
 
@@ -515,22 +763,14 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         indicator.setLastSelectedPosition(indicator.getSelectedPosition());
         indicator.setSelectingPosition(position);
         indicator.setSelectedPosition(position);
-        manager.animate().basic();
-    }
+        moveWindow(animated && indicator.getAnimationType() != AnimationType.NONE);
 
-    /**
-     * Set specific circle indicator position to be selected without any kind of animation. If position < or > total count,
-     * accordingly first or last circle indicator will be selected.
-     *
-     * @param position position of indicator to select.
-     */
-    public void setSelected(int position) {
-        Indicator indicator = manager.indicator();
-        AnimationType animationType = indicator.getAnimationType();
-        indicator.setAnimationType(AnimationType.NONE);
-
-        setSelection(position);
-        indicator.setAnimationType(animationType);
+        if (animated) {
+            manager.animate().basic();
+        } else {
+            manager.animate().end();
+            manager.onValueUpdated(null);
+        }
     }
 
     /**
@@ -573,6 +813,14 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
             progress = 1;
         }
 
+        if (indicator.isWindowed()) {
+            float fromOffset = CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition());
+            float toOffset = CoordinatesUtils.getWindowOffset(indicator, selectingPosition);
+
+            cancelWindowAnimation();
+            indicator.setWindowOffset(fromOffset + (toOffset - fromOffset) * progress);
+        }
+
         if (progress == 1) {
             indicator.setLastSelectedPosition(indicator.getSelectedPosition());
             indicator.setSelectedPosition(selectingPosition);
@@ -589,10 +837,6 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     private void init(@Nullable AttributeSet attrs) {
         setupId();
         initIndicatorManager(attrs);
-
-        if (manager.indicator().isFadeOnIdle()) {
-            startIdleRunnable();
-        }
     }
 
     private void setupId() {
@@ -610,9 +854,22 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         indicator.setPaddingTop(getPaddingTop());
         indicator.setPaddingRight(getPaddingRight());
         indicator.setPaddingBottom(getPaddingBottom());
+        indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition()));
+        indicator.consumeDirtyFlags();
         isInteractionEnabled = indicator.isInteractiveAnimation();
     }
 
+    private void applyIndicatorChanges() {
+        int dirtyFlags = manager.indicator().consumeDirtyFlags();
+        if ((dirtyFlags & Indicator.DIRTY_GEOMETRY) != 0) {
+            requestLayout();
+        }
+
+        if (dirtyFlags != Indicator.DIRTY_NONE) {
+            invalidate();
+        }
+    }
+
     private void registerSetObserver() {
         if (setObserver != null || viewPager == null || viewPager.getAdapter() == null) {
             return;
@@ -658,6 +915,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         manager.indicator().setLastSelectedPosition(selectedPos);
         manager.indicator().setCount(count);
         manager.animate().end();
+        moveWindow(false);
 
         updateVisibility();
         requestLayout();
@@ -680,6 +938,7 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     }
 
     private void onPageSelect(int position) {
+        flushPendingScroll();
         boolean canSelectIndicator = isViewMeasured();
 
         if (canSelectIndicator) {
@@ -688,6 +947,60 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
     }
 
     private void onPageScroll(int position, float positionOffset) {
+        trackScrollVelocity(position + positionOffset);
+
+        if (manager.indicator().isScrollThrottled() && positionOffset != 0) {
+            pendingScrollPosition = position;
+            pendingScrollOffset = positionOffset;
+
+            if (!hasPendingScroll) {
+                hasPendingScroll = true;
+                FrameClock.getInstance().add(getScrollFrameCallback());
+            }
+            return;
+        }
+
+        cancelPendingScroll();
+        applyScroll(position, positionOffset);
+    }
+
+    @NonNull
+    private FrameClock.Callback getScrollFrameCallback() {
+        if (scrollFrameCallback == null) {
+            scrollFrameCallback = new FrameClock.Callback() {
+                @Override
+                public boolean doFrame(long frameTimeNanos) {
+                    flushPendingScroll();
+                    return false;
+                }
+            };
+        }
+
+        return scrollFrameCallback;
+    }
+
+    /**
+     * Apply the latest scroll event stored for the next frame right away.
+     */
+    private void flushPendingScroll() {
+        if (!hasPendingScroll) {
+            return;
+        }
+
+        cancelPendingScroll();
+        applyScroll(pendingScrollPosition, pendingScrollOffset);
+    }
+
+    private void cancelPendingScroll() {
+        if (!hasPendingScroll) {
+            return;
+        }
+
+        hasPendingScroll = false;
+        FrameClock.getInstance().remove(scrollFrameCallback);
+    }
+
+    private void applyScroll(int position, float positionOffset) {
         Indicator indicator = manager.indicator();
         AnimationType animationType = indicator.getAnimationType();
         boolean interactiveAnimation = indicator.isInteractiveAnimation();
@@ -697,12 +1010,87 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
             return;
         }
 
-        Pair<Integer, Float> progressPair = CoordinatesUtils.getProgress(indicator, position, positionOffset, false);
-        int selectingPosition = progressPair.first;
-        float selectingProgress = progressPair.second;
-        setProgress(selectingPosition, selectingProgress);
+        CoordinatesUtils.getProgress(indicator, position, positionOffset, false, scrollProgress);
+        setProgress(scrollProgress.getSelectingPosition(), scrollProgress.getSelectingProgress());
+    }
+
+    /**
+     * Track pager speed in pages per second, smoothed over consecutive scroll events,
+     * so spring timing could start with the velocity of user's fling.
+     */
+    private void trackScrollVelocity(float scrollPosition) {
+        long timeNanos = System.nanoTime();
+        Indicator indicator = manager.indicator();
+
+        if (lastScrollTimeNanos != SCROLL_TIME_NONE && timeNanos > lastScrollTimeNanos) {
+            float seconds = (timeNanos - lastScrollTimeNanos) / 1_000_000_000f;
+            float velocity = (scrollPosition - lastScrollPosition) / seconds;
+            indicator.setScrollVelocity((indicator.getScrollVelocity() + velocity) / 2);
+        }
+
+        lastScrollPosition = scrollPosition;
+        lastScrollTimeNanos = timeNanos;
+    }
+
+    private void registerQualityMonitor() {
+        if (!manager.indicator().isAdaptiveQuality() || powerSaveReceiver != null) {
+            return;
+        }
+
+        powerSaveReceiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                updateQualityState();
+            }
+        };
+
+        IntentFilter filter = new IntentFilter(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED);
+        getContext().registerReceiver(powerSaveReceiver, filter);
+
+        durationScaleObserver = new ContentObserver(new Handler(Looper.getMainLooper())) {
+            @Override
+            public void onChange(boolean selfChange) {
+                updateQualityState();
+            }
+        };
+
+        Uri durationScaleUri = Settings.Global.getUriFor(Settings.Global.ANIMATOR_DURATION_SCALE);
+        getContext().getContentResolver().registerContentObserver(durationScaleUri, false, durationScaleObserver);
+        updateQualityState();
+    }
+
+    private void unRegisterQualityMonitor() {
+        if (powerSaveReceiver == null) {
+            return;
+        }
+
+        try {
+            getContext().unregisterReceiver(powerSaveReceiver);
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "Power save receiver was not registered", e);
+        }
+
+        if (durationScaleObserver != null) {
+            getContext().getContentResolver().unregisterContentObserver(durationScaleObserver);
+        }
+
+        powerSaveReceiver = null;
+        durationScaleObserver = null;
     }
 
+    private void updateQualityState() {
+        Context context = getContext();
+        QualityGovernor governor = manager.animate().qualityGovernor();
+
+        PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        governor.setPowerSaveMode(powerManager != null && powerManager.isPowerSaveMode());
+
+        float durationScale = Settings.Global.getFloat(context.getContentResolver(), Settings.Global.ANIMATOR_DURATION_SCALE, 1);
+        governor.setDurationScale(durationScale);
+
+        Display display = getDisplay();
+        governor.setRefreshRate(display != null ? display.getRefreshRate() : QualityGovernor.DEFAULT_REFRESH_RATE);
+    }
 
     private boolean isViewMeasured() {
         return getMeasuredHeight() != 0 || getMeasuredWidth() != 0;
@@ -765,13 +1153,326 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         animate().alpha(0f).setDuration(Indicator.IDLE_ANIMATION_DURATION);
     }
 
-    private void startIdleRunnable() {
-        HANDLER.removeCallbacks(idleRunnable);
-        HANDLER.postDelayed(idleRunnable, manager.indicator().getIdleDuration());
+    private void startIdleTimer() {
+        // Timer starts once attached, so detached views are never referenced by the scheduler.
+        if (!isAttachedToWindow()) {
+            return;
+        }
+
+        IdleScheduler.getInstance().schedule(idleCallback, manager.indicator().getIdleDuration());
     }
 
-    private void stopIdleRunnable() {
-        HANDLER.removeCallbacks(idleRunnable);
+    private void stopIdleTimer() {
+        IdleScheduler.getInstance().cancel(idleCallback);
         displayWithAnimation();
     }
+
+    private void moveWindow(boolean animated) {
+        Indicator indicator = manager.indicator();
+        float offset = indicator.getWindowOffset();
+        float targetOffset = CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition());
+
+        if (windowAnimator != null && windowAnimator.isRunning() && windowEndOffset == targetOffset) {
+            return;
+        }
+
+        cancelWindowAnimation();
+        if (offset == targetOffset) {
+            return;
+        }
+
+        long duration = indicator.getAnimationDuration();
+        if (!animated || duration <= 0) {
+            indicator.setWindowOffset(targetOffset);
+            invalidate();
+            return;
+        }
+
+        if (windowAnimator == null) {
+            windowAnimator = ValueAnimator.ofFloat(0, 1);
+            windowAnimator.setInterpolator(Interpolation.ACCELERATE_DECELERATE);
+            windowAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+                @Override
+                public void onAnimationUpdate(ValueAnimator animation) {
+                    float fraction = animation.getAnimatedFraction();
+                    manager.indicator().setWindowOffset(windowStartOffset + (windowEndOffset - windowStartOffset) * fraction);
+                    invalidate();
+                }
+            });
+        }
+
+        windowStartOffset = offset;
+        windowEndOffset = targetOffset;
+        windowAnimator.setDuration(duration);
+        windowAnimator.start();
+    }
+
+    private void cancelWindowAnimation() {
+        if (windowAnimator != null && windowAnimator.isRunning()) {
+            windowAnimator.cancel();
+        }
+    }
+
+    /**
+     * Batch of indicator changes started by {@link #edit()}. Setters only record values,
+     * which are validated against each other and applied to indicator by {@link #apply()},
+     * so for example stroke width is limited by the new radius regardless of call order.
+     */
+    public final class Editor {
+
+        private static final int CHANGE_COUNT = 1;
+        private static final int CHANGE_MAX_VISIBLE_COUNT = 1 << 1;
+        private static final int CHANGE_RADIUS = 1 << 2;
+        private static final int CHANGE_PADDING = 1 << 3;
+        private static final int CHANGE_STROKE = 1 << 4;
+        private static final int CHANGE_SCALE_FACTOR = 1 << 5;
+        private static final int CHANGE_SELECTED_COLOR = 1 << 6;
+        private static final int CHANGE_UNSELECTED_COLOR = 1 << 7;
+        private static final int CHANGE_COLOR_RESOLUTION = 1 << 8;
+        private static final int CHANGE_ORIENTATION = 1 << 9;
+        private static final int CHANGE_ANIMATION_TYPE = 1 << 10;
+        private static final int CHANGE_ANIMATION_DURATION = 1 << 11;
+        private static final int CHANGE_RENDER_MODE = 1 << 12;
+
+        private int changes;
+
+        private int count;
+        private int maxVisibleCount;
+        private float radiusPx;
+        private float paddingPx;
+        private float strokePx;
+        private float scaleFactor;
+        private int selectedColor;
+        private int unselectedColor;
+        private int colorResolution;
+        private Orientation orientation;
+        private AnimationType animationType;
+        private long animationDuration;
+        private RenderMode renderMode;
+
+        private Editor() {
+        }
+
+        @NonNull
+        public Editor setCount(int count) {
+            this.count = count;
+            changes |= CHANGE_COUNT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setMaxVisibleCount(int maxVisibleCount) {
+            this.maxVisibleCount = maxVisibleCount;
+            changes |= CHANGE_MAX_VISIBLE_COUNT;
+            return this;
+        }
+
+        /**
+         * @param radiusDp radius of circle in dp.
+         */
+        @NonNull
+        public Editor setRadius(int radiusDp) {
+            return setRadius((float) DensityUtils.dpToPx(Math.max(0, radiusDp)));
+        }
+
+        /**
+         * @param radiusPx radius of circle in px.
+         */
+        @NonNull
+        public Editor setRadius(float radiusPx) {
+            this.radiusPx = radiusPx;
+            changes |= CHANGE_RADIUS;
+            return this;
+        }
+
+        /**
+         * @param paddingDp padding between circles in dp.
+         */
+        @NonNull
+        public Editor setPadding(int paddingDp) {
+            return setPadding((float) DensityUtils.dpToPx(Math.max(0, paddingDp)));
+        }
+
+        /**
+         * @param paddingPx padding between circles in px.
+         */
+        @NonNull
+        public Editor setPadding(float paddingPx) {
+            this.paddingPx = paddingPx;
+            changes |= CHANGE_PADDING;
+            return this;
+        }
+
+        /**
+         * @param strokeDp stroke width of unselected circles in dp.
+         */
+        @NonNull
+        public Editor setStrokeWidth(int strokeDp) {
+            return setStrokeWidth((float) DensityUtils.dpToPx(strokeDp));
+        }
+
+        /**
+         * @param strokePx stroke width of unselected circles in px.
+         */
+        @NonNull
+        public Editor setStrokeWidth(float strokePx) {
+            this.strokePx = strokePx;
+            changes |= CHANGE_STROKE;
+            return this;
+        }
+
+        @NonNull
+        public Editor setScaleFactor(float scaleFactor) {
+            this.scaleFactor = scaleFactor;
+            changes |= CHANGE_SCALE_FACTOR;
+            return this;
+        }
+
+        @NonNull
+        public Editor setSelectedColor(int color) {
+            this.selectedColor = color;
+            changes |= CHANGE_SELECTED_COLOR;
+            return this;
+        }
+
+        @NonNull
+        public Editor setUnselectedColor(int color) {
+            this.unselectedColor = color;
+            changes |= CHANGE_UNSELECTED_COLOR;
+            return this;
+        }
+
+        @NonNull
+        public Editor setColorResolution(int colorResolution) {
+            this.colorResolution = colorResolution;
+            changes |= CHANGE_COLOR_RESOLUTION;
+            return this;
+        }
+
+        @NonNull
+        public Editor setOrientation(@Nullable Orientation orientation) {
+            if (orientation != null) {
+                this.orientation = orientation;
+                changes |= CHANGE_ORIENTATION;
+            }
+            return this;
+        }
+
+        @NonNull
+        public Editor setAnimationType(@Nullable AnimationType type) {
+            this.animationType = type != null ? type : AnimationType.NONE;
+            changes |= CHANGE_ANIMATION_TYPE;
+            return this;
+        }
+
+        @NonNull
+        public Editor setAnimationDuration(long duration) {
+            this.animationDuration = duration;
+            changes |= CHANGE_ANIMATION_DURATION;
+            return this;
+        }
+
+        @NonNull
+        public Editor setRenderMode(@Nullable RenderMode renderMode) {
+            this.renderMode = renderMode != null ? renderMode : RenderMode.DIRECT;
+            changes |= CHANGE_RENDER_MODE;
+            return this;
+        }
+
+        /**
+         * Validate recorded changes, apply them to indicator and request at most one layout and one redraw.
+         */
+        public void apply() {
+            Indicator indicator = manager.indicator();
+            int changes = this.changes;
+            clear();
+
+            if (has(changes, CHANGE_RADIUS)) {
+                indicator.setRadius((int) Math.max(0, radiusPx));
+            }
+
+            if (has(changes, CHANGE_PADDING)) {
+                indicator.setPadding((int) Math.max(0, paddingPx));
+            }
+
+            if (has(changes, CHANGE_STROKE | CHANGE_RADIUS)) {
+                float stroke = has(changes, CHANGE_STROKE) ? strokePx : indicator.getStroke();
+                indicator.setStroke((int) Math.max(0, Math.min(stroke, indicator.getRadius())));
+            }
+
+            if (has(changes, CHANGE_SCALE_FACTOR)) {
+                float factor = Math.max(ScaleAnimation.MIN_SCALE_FACTOR, Math.min(scaleFactor, ScaleAnimation.MAX_SCALE_FACTOR));
+                indicator.setScaleFactor(factor);
+            }
+
+            if (has(changes, CHANGE_SELECTED_COLOR)) {
+                indicator.setSelectedColor(selectedColor);
+            }
+
+            if (has(changes, CHANGE_UNSELECTED_COLOR)) {
+                indicator.setUnselectedColor(unselectedColor);
+            }
+
+            if (has(changes, CHANGE_COLOR_RESOLUTION)) {
+                indicator.setColorResolution(Math.max(ColorPalette.MIN_RESOLUTION, colorResolution));
+            }
+
+            if (has(changes, CHANGE_ORIENTATION)) {
+                indicator.setOrientation(orientation);
+            }
+
+            if (has(changes, CHANGE_ANIMATION_DURATION)) {
+                indicator.setAnimationDuration(animationDuration);
+            }
+
+            if (has(changes, CHANGE_RENDER_MODE)) {
+                indicator.setRenderMode(renderMode);
+                if (renderMode == RenderMode.DIRECT) {
+                    manager.drawer().releaseStaticLayer();
+                }
+            }
+
+            boolean typeChanged = has(changes, CHANGE_ANIMATION_TYPE) && indicator.getAnimationType() != animationType;
+            if (typeChanged) {
+                manager.onValueUpdated(null);
+                manager.flush();
+                indicator.setAnimationType(animationType);
+            }
+
+            boolean countChanged = has(changes, CHANGE_COUNT) && count >= 0 && indicator.getCount() != count;
+            if (countChanged) {
+                indicator.setCount(count);
+            }
+
+            boolean windowChanged = has(changes, CHANGE_MAX_VISIBLE_COUNT);
+            if (windowChanged) {
+                indicator.setMaxVisibleCount(maxVisibleCount < 0 ? Indicator.MAX_VISIBLE_COUNT_ALL : maxVisibleCount);
+            }
+
+            if (countChanged || windowChanged) {
+                moveWindow(false);
+            }
+
+            if (countChanged) {
+                updateVisibility();
+            }
+
+            int dirtyFlags = indicator.consumeDirtyFlags();
+            if ((dirtyFlags & Indicator.DIRTY_GEOMETRY) != 0) {
+                requestLayout();
+            }
+
+            if (dirtyFlags != Indicator.DIRTY_NONE || typeChanged || has(changes, CHANGE_RENDER_MODE)) {
+                invalidate();
+            }
+        }
+
+        private void clear() {
+            changes = 0;
+        }
+
+        private boolean has(int changes, int change) {
+            return (changes & change) != 0;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.pspdevelopers.materialonboard.widget.animation;
 
 import com.pspdevelopers.materialonboard.widget.animation.controller.AnimationController;
+import com.pspdevelopers.materialonboard.widget.animation.controller.QualityGovernor;
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 
@@ -14,13 +15,21 @@ public class AnimationManager {
         this.animationController = new AnimationController(indicator, listener);
     }
 
+    @NonNull
+    public QualityGovernor qualityGovernor() {
+        return animationController.qualityGovernor();
+    }
+
     public void basic() {
         if (animationController != null) {
-            animationController.end();
             animationController.basic();
         }
     }
 
+    public boolean isBlending() {
+        return animationController != null && animationController.isBlending();
+    }
+
     public void interactive(float progress) {
         if (animationController != null) {
             animationController.interactive(progress);
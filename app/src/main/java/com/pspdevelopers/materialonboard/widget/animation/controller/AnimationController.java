@@ -2,6 +2,9 @@ package com.pspdevelopers.materialonboard.widget.animation.controller;
 
 import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
 import com.pspdevelopers.materialonboard.widget.animation.type.BaseAnimation;
+import com.pspdevelopers.materialonboard.widget.animation.type.FillAnimation;
+import com.pspdevelopers.materialonboard.widget.animation.type.ScaleAnimation;
+import com.pspdevelopers.materialonboard.widget.animation.type.ScaleDownAnimation;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
 
@@ -11,8 +14,10 @@ public class AnimationController {
 
     private ValueController valueController;
     private ValueController.UpdateListener listener;
+    private QualityGovernor qualityGovernor;
 
     private BaseAnimation runningAnimation;
+    private AnimationType runningAnimationType;
     private Indicator indicator;
 
     private float progress;
@@ -22,6 +27,12 @@ public class AnimationController {
         this.valueController = new ValueController(listener);
         this.listener = listener;
         this.indicator = indicator;
+        this.qualityGovernor = new QualityGovernor();
+    }
+
+    @NonNull
+    public QualityGovernor qualityGovernor() {
+        return qualityGovernor;
     }
 
     public void interactive(float progress) {
@@ -33,6 +44,13 @@ public class AnimationController {
     public void basic() {
         this.isInteractive = false;
         this.progress = 0;
+
+        if (runningAnimation != null && runningAnimationType == resolveAnimationType()) {
+            runningAnimation.retarget();
+        } else {
+            end();
+        }
+
         animate();
     }
 
@@ -42,10 +60,26 @@ public class AnimationController {
         }
     }
 
+    /**
+     * Return true while running animation blends into a new target,
+     * so its value may be drawn outside of the area between selected positions.
+     */
+    public boolean isBlending() {
+        return runningAnimation != null && runningAnimation.isBlending();
+    }
+
     private void animate() {
-        AnimationType animationType = indicator.getAnimationType();
+        AnimationType animationType = resolveAnimationType();
+        indicator.setEffectiveAnimationType(animationType);
+        runningAnimationType = animationType;
+
         switch (animationType) {
             case NONE:
+                // Only selections which governor turned animation off for count as recovery probes.
+                if (indicator.isAdaptiveQuality() && !isInteractive && indicator.getAnimationType() != AnimationType.NONE) {
+                    qualityGovernor.skip();
+                }
+
                 listener.onValueUpdated(null);
                 break;
 
@@ -64,26 +98,42 @@ public class AnimationController {
             case SWAP:
                 swapAnimation();
                 break;
+
+            case SCALE:
+                scaleAnimation();
+                break;
+
+            case FILL:
+                fillAnimation();
+                break;
+
+            case SLIDE:
+                slideAnimation();
+                break;
+
+            case DROP:
+                dropAnimation();
+                break;
+
+            case SCALE_DOWN:
+                scaleDownAnimation();
+                break;
         }
     }
 
     private void colorAnimation() {
         int selectedColor = indicator.getSelectedColor();
         int unselectedColor = indicator.getUnselectedColor();
+        int colorResolution = indicator.getColorResolution();
         long animationDuration = indicator.getAnimationDuration();
 
         BaseAnimation animation = valueController
                 .color()
+                .colorResolution(colorResolution)
                 .with(unselectedColor, selectedColor)
                 .duration(animationDuration);
 
-        if (isInteractive) {
-            animation.progress(progress);
-        } else {
-            animation.start();
-        }
-
-        runningAnimation = animation;
+        run(animation);
     }
 
     private void lineAnimation() {
@@ -102,13 +152,7 @@ public class AnimationController {
                 .with(from, to, radiusPx, isRightSide)
                 .duration(animationDuration);
 
-        if (isInteractive) {
-            animation.progress(progress);
-        } else {
-            animation.start();
-        }
-
-        runningAnimation = animation;
+        run(animation);
     }
 
     private void thinLineAnimation() {
@@ -127,13 +171,7 @@ public class AnimationController {
                 .with(from, to, radiusPx, isRightSide)
                 .duration(animationDuration);
 
-        if (isInteractive) {
-            animation.progress(progress);
-        } else {
-            animation.start();
-        }
-
-        runningAnimation = animation;
+        run(animation);
     }
 
     private void swapAnimation() {
@@ -149,14 +187,140 @@ public class AnimationController {
                 .with(from, to)
                 .duration(animationDuration);
 
+        run(animation);
+    }
+
+    private void scaleAnimation() {
+        int selectedColor = indicator.getSelectedColor();
+        int unselectedColor = indicator.getUnselectedColor();
+        int colorResolution = indicator.getColorResolution();
+        int radiusPx = indicator.getRadius();
+        float scaleFactor = indicator.getScaleFactor();
+        long animationDuration = indicator.getAnimationDuration();
+
+        ScaleAnimation scaleAnimation = valueController.scale();
+        scaleAnimation.colorResolution(colorResolution);
+
+        BaseAnimation animation = scaleAnimation
+                .with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                .duration(animationDuration);
+
+        run(animation);
+    }
+
+    private void fillAnimation() {
+        int selectedColor = indicator.getSelectedColor();
+        int unselectedColor = indicator.getUnselectedColor();
+        int colorResolution = indicator.getColorResolution();
+        int radiusPx = indicator.getRadius();
+        int strokePx = indicator.getStroke();
+        long animationDuration = indicator.getAnimationDuration();
+
+        FillAnimation fillAnimation = valueController.fill();
+        fillAnimation.colorResolution(colorResolution);
+
+        BaseAnimation animation = fillAnimation
+                .with(unselectedColor, selectedColor, radiusPx, strokePx)
+                .duration(animationDuration);
+
+        run(animation);
+    }
+
+    private void slideAnimation() {
+        int fromPosition = indicator.isInteractiveAnimation() ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int toPosition = indicator.isInteractiveAnimation() ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int from = CoordinatesUtils.getCoordinate(indicator, fromPosition);
+        int to = CoordinatesUtils.getCoordinate(indicator, toPosition);
+        long animationDuration = indicator.getAnimationDuration();
+
+        BaseAnimation animation = valueController
+                .slide()
+                .with(from, to)
+                .duration(animationDuration);
+
+        run(animation);
+    }
+
+    private void dropAnimation() {
+        int fromPosition = indicator.isInteractiveAnimation() ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int toPosition = indicator.isInteractiveAnimation() ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int widthFrom = CoordinatesUtils.getCoordinate(indicator, fromPosition);
+        int widthTo = CoordinatesUtils.getCoordinate(indicator, toPosition);
+
+        int radius = indicator.getRadius();
+        int heightFrom = CoordinatesUtils.getCrossCoordinate(indicator);
+        int heightTo = heightFrom - radius * 2;
+        long animationDuration = indicator.getAnimationDuration();
+
+        BaseAnimation animation = valueController
+                .drop()
+                .with(widthFrom, widthTo, heightFrom, heightTo, radius)
+                .duration(animationDuration);
+
+        run(animation);
+    }
+
+    private void scaleDownAnimation() {
+        int selectedColor = indicator.getSelectedColor();
+        int unselectedColor = indicator.getUnselectedColor();
+        int colorResolution = indicator.getColorResolution();
+        int radiusPx = indicator.getRadius();
+        float scaleFactor = indicator.getScaleFactor();
+        long animationDuration = indicator.getAnimationDuration();
+
+        ScaleDownAnimation scaleDownAnimation = valueController.scaleDown();
+        scaleDownAnimation.colorResolution(colorResolution);
+
+        BaseAnimation animation = scaleDownAnimation
+                .with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                .duration(animationDuration);
+
+        run(animation);
+    }
+
+    private void run(@NonNull BaseAnimation animation) {
         if (isInteractive) {
             animation.progress(progress);
         } else {
+            animation.timing(indicator.getAnimationTiming(), getSpringVelocity());
             animation.start();
+
+            if (indicator.isAdaptiveQuality()) {
+                qualityGovernor.watch(animation);
+            }
         }
 
         runningAnimation = animation;
     }
 
-}
+    /**
+     * Return animation type to run, stepped down by {@link QualityGovernor} when adaptive quality is enabled.
+     */
+    @NonNull
+    private AnimationType resolveAnimationType() {
+        AnimationType animationType = indicator.getAnimationType();
+        if (indicator.isAdaptiveQuality()) {
+            animationType = qualityGovernor.resolve(animationType);
+        }
 
+        return animationType;
+    }
+
+    /**
+     * Return velocity of the last pager scroll in animation progress units per second, and reset it,
+     * so programmatic selection which follows starts spring at rest.
+     */
+    private float getSpringVelocity() {
+        float velocity = Math.abs(indicator.getScrollVelocity());
+        indicator.setScrollVelocity(0);
+
+        int distance = Math.abs(indicator.getSelectedPosition() - indicator.getLastSelectedPosition());
+        if (distance > 1) {
+            velocity /= distance;
+        }
+
+        return velocity;
+    }
+}
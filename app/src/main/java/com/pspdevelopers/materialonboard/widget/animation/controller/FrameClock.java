@@ -0,0 +1,124 @@
+package com.pspdevelopers.materialonboard.widget.animation.controller;
+
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Clock which ticks all running indicator animations of a thread once per vsync.
+ * Frame callback is posted only while at least one animation is running.
+ * Each thread with a looper gets its own clock, driven by its own {@link Choreographer},
+ * so indicators rendered on a separate thread keep animating while the main thread is busy.
+ */
+public class FrameClock implements Choreographer.FrameCallback {
+
+    private static final ThreadLocal<FrameClock> INSTANCES = new ThreadLocal<>();
+
+    private final ArrayList<Callback> callbacks = new ArrayList<>();
+    private Choreographer choreographer;
+
+    private boolean isScheduled;
+    private boolean isDispatching;
+
+    /**
+     * Return clock of the calling thread, which must have a looper.
+     */
+    @NonNull
+    public static FrameClock getInstance() {
+        FrameClock instance = INSTANCES.get();
+        if (instance == null) {
+            instance = new FrameClock();
+            INSTANCES.set(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Return scale which should be applied to animation duration,
+     * following "Animator duration scale" developer setting where available.
+     */
+    public static float getDurationScale() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            return ValueAnimator.getDurationScale();
+        }
+
+        return 1;
+    }
+
+    public void add(@NonNull Callback callback) {
+        if (!callbacks.contains(callback)) {
+            callbacks.add(callback);
+        }
+
+        schedule();
+    }
+
+    public void remove(@NonNull Callback callback) {
+        int index = callbacks.indexOf(callback);
+        if (index < 0) {
+            return;
+        }
+
+        if (isDispatching) {
+            callbacks.set(index, null);
+        } else {
+            callbacks.remove(index);
+        }
+    }
+
+    public boolean contains(@NonNull Callback callback) {
+        return callbacks.contains(callback);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isScheduled = false;
+        isDispatching = true;
+
+        // Callbacks added while dispatching run at the end of this same frame.
+        for (int i = 0; i < callbacks.size(); i++) {
+            Callback callback = callbacks.get(i);
+            if (callback != null && !callback.doFrame(frameTimeNanos)) {
+                callbacks.set(i, null);
+            }
+        }
+
+        isDispatching = false;
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            if (callbacks.get(i) == null) {
+                callbacks.remove(i);
+            }
+        }
+
+        if (!callbacks.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (isScheduled || isDispatching) {
+            return;
+        }
+
+        if (choreographer == null) {
+            choreographer = Choreographer.getInstance();
+        }
+
+        isScheduled = true;
+        choreographer.postFrameCallback(this);
+    }
+
+    public interface Callback {
+
+        /**
+         * Called once per frame while callback is registered.
+         * Return false to unregister callback after this frame.
+         */
+        boolean doFrame(long frameTimeNanos);
+    }
+}
@@ -0,0 +1,199 @@
+package com.pspdevelopers.materialonboard.widget.animation.controller;
+
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.animation.type.BaseAnimation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Picks animation type the device can keep at frame rate.
+ * Frame intervals are sampled while indicator animation runs. Animation which drops too many frames
+ * steps quality down from requested type to {@link AnimationType#COLOR} and then to {@link AnimationType#NONE},
+ * a series of smooth animations steps it back up. Battery saver caps quality at color animation,
+ * and disabled animator duration scale turns animation off.
+ */
+public class QualityGovernor implements FrameClock.Callback {
+
+    public static final int QUALITY_FULL = 0;
+    public static final int QUALITY_REDUCED = 1;
+    public static final int QUALITY_NONE = 2;
+
+    public static final float DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     * Frame taking longer than this number of frame intervals is counted as dropped.
+     */
+    private static final float JANK_FACTOR = 1.5f;
+
+    /**
+     * Share of dropped frames within one animation which steps quality down.
+     */
+    private static final float MAX_DROPPED_RATIO = 0.2f;
+
+    private static final int MIN_SAMPLED_FRAMES = 4;
+    private static final int RECOVERY_ANIMATIONS = 5;
+    private static final long TIME_NONE = -1;
+
+    private BaseAnimation animation;
+    private long frameIntervalNanos = (long) (1_000_000_000 / DEFAULT_REFRESH_RATE);
+    private long lastFrameTimeNanos = TIME_NONE;
+
+    private int sampledFrames;
+    private int droppedFrames;
+    private int smoothAnimations;
+
+    private int frameQuality = QUALITY_FULL;
+    private boolean isPowerSaveMode;
+    private float durationScale = 1;
+
+    /**
+     * Return animation type which should run instead of the requested one at current quality.
+     */
+    @NonNull
+    public AnimationType resolve(@NonNull AnimationType requested) {
+        switch (getQuality()) {
+            case QUALITY_NONE:
+                return AnimationType.NONE;
+
+            case QUALITY_REDUCED:
+                return requested == AnimationType.NONE ? AnimationType.NONE : AnimationType.COLOR;
+
+            default:
+                return requested;
+        }
+    }
+
+    public int getQuality() {
+        int quality = frameQuality;
+        if (durationScale <= 0) {
+            quality = QUALITY_NONE;
+
+        } else if (isPowerSaveMode && quality < QUALITY_REDUCED) {
+            quality = QUALITY_REDUCED;
+        }
+
+        return quality;
+    }
+
+    public void setPowerSaveMode(boolean isPowerSaveMode) {
+        this.isPowerSaveMode = isPowerSaveMode;
+    }
+
+    /**
+     * @param durationScale value of "Animator duration scale" setting, 0 when animations are off.
+     */
+    public void setDurationScale(float durationScale) {
+        this.durationScale = durationScale;
+    }
+
+    public void setRefreshRate(float refreshRate) {
+        if (refreshRate <= 0) {
+            refreshRate = DEFAULT_REFRESH_RATE;
+        }
+
+        frameIntervalNanos = (long) (1_000_000_000 / refreshRate);
+    }
+
+    /**
+     * Sample frames of given animation until it stops running.
+     */
+    public void watch(@Nullable BaseAnimation animation) {
+        if (this.animation != animation) {
+            onAnimationEnd();
+            this.animation = animation;
+        }
+
+        if (animation != null) {
+            FrameClock.getInstance().add(this);
+        }
+    }
+
+    /**
+     * Drop collected samples and go back to full quality.
+     */
+    public void reset() {
+        if (animation != null) {
+            FrameClock.getInstance().remove(this);
+            animation = null;
+        }
+
+        lastFrameTimeNanos = TIME_NONE;
+        sampledFrames = 0;
+        droppedFrames = 0;
+        smoothAnimations = 0;
+        frameQuality = QUALITY_FULL;
+    }
+
+    /**
+     * Record selection which ran without animation. Since nothing can be sampled
+     * while quality is off, a few such selections probe reduced quality again.
+     */
+    public void skip() {
+        watch(null);
+        if (frameQuality != QUALITY_NONE) {
+            return;
+        }
+
+        smoothAnimations++;
+        if (smoothAnimations >= RECOVERY_ANIMATIONS) {
+            smoothAnimations = 0;
+            frameQuality--;
+        }
+    }
+
+    @Override
+    public boolean doFrame(long frameTimeNanos) {
+        if (animation == null || !animation.isRunning()) {
+            onAnimationEnd();
+            animation = null;
+            return false;
+        }
+
+        onFrame(frameTimeNanos);
+        return true;
+    }
+
+    void onFrame(long frameTimeNanos) {
+        if (lastFrameTimeNanos != TIME_NONE && frameTimeNanos > lastFrameTimeNanos) {
+            long interval = frameTimeNanos - lastFrameTimeNanos;
+            sampledFrames++;
+
+            if (interval > frameIntervalNanos * JANK_FACTOR) {
+                droppedFrames += Math.round((float) interval / frameIntervalNanos) - 1;
+            }
+        }
+
+        lastFrameTimeNanos = frameTimeNanos;
+    }
+
+    void onAnimationEnd() {
+        lastFrameTimeNanos = TIME_NONE;
+        if (sampledFrames < MIN_SAMPLED_FRAMES) {
+            sampledFrames = 0;
+            droppedFrames = 0;
+            return;
+        }
+
+        float droppedRatio = (float) droppedFrames / (sampledFrames + droppedFrames);
+        sampledFrames = 0;
+        droppedFrames = 0;
+
+        if (droppedRatio > MAX_DROPPED_RATIO) {
+            smoothAnimations = 0;
+            if (frameQuality < QUALITY_NONE) {
+                frameQuality++;
+            }
+
+        } else if (droppedRatio == 0) {
+            smoothAnimations++;
+            if (smoothAnimations >= RECOVERY_ANIMATIONS && frameQuality > QUALITY_FULL) {
+                smoothAnimations = 0;
+                frameQuality--;
+            }
+
+        } else {
+            smoothAnimations = 0;
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.pspdevelopers.materialonboard.widget.animation.data.type.ColorAnimati
 import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.FillAnimationValue;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.ScaleAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.SlideAnimationValue;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.SwapAnimationValue;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.ThinWormAnimationValue;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 public class AnimationValue {
 
@@ -19,6 +21,82 @@ public class AnimationValue {
     private ThinWormAnimationValue thinWormAnimationValue;
     private DropAnimationValue dropAnimationValue;
     private SwapAnimationValue swapAnimationValue;
+    private SlideAnimationValue slideAnimationValue;
+
+    /**
+     * Copy given value into the instance of the same type kept by this object.
+     * Each type has one instance, created on first use, so copying allocates nothing afterwards.
+     *
+     * @return copy of the value, or null if value is null or of unknown type.
+     */
+    @Nullable
+    public Value copy(@Nullable Value value) {
+        if (value instanceof ThinWormAnimationValue) {
+            ThinWormAnimationValue source = (ThinWormAnimationValue) value;
+            ThinWormAnimationValue copy = getThinWormAnimationValue();
+            copy.setRectStart(source.getRectStart());
+            copy.setRectEnd(source.getRectEnd());
+            copy.setHeight(source.getHeight());
+            return copy;
+
+        } else if (value instanceof WormAnimationValue) {
+            WormAnimationValue source = (WormAnimationValue) value;
+            WormAnimationValue copy = getWormAnimationValue();
+            copy.setRectStart(source.getRectStart());
+            copy.setRectEnd(source.getRectEnd());
+            return copy;
+
+        } else if (value instanceof FillAnimationValue) {
+            FillAnimationValue source = (FillAnimationValue) value;
+            FillAnimationValue copy = getFillAnimationValue();
+            copy.setColor(source.getColor());
+            copy.setColorReverse(source.getColorReverse());
+            copy.setRadius(source.getRadius());
+            copy.setRadiusReverse(source.getRadiusReverse());
+            copy.setStroke(source.getStroke());
+            copy.setStrokeReverse(source.getStrokeReverse());
+            return copy;
+
+        } else if (value instanceof ScaleAnimationValue) {
+            ScaleAnimationValue source = (ScaleAnimationValue) value;
+            ScaleAnimationValue copy = getScaleAnimationValue();
+            copy.setColor(source.getColor());
+            copy.setColorReverse(source.getColorReverse());
+            copy.setRadius(source.getRadius());
+            copy.setRadiusReverse(source.getRadiusReverse());
+            return copy;
+
+        } else if (value instanceof ColorAnimationValue) {
+            ColorAnimationValue source = (ColorAnimationValue) value;
+            ColorAnimationValue copy = getColorAnimationValue();
+            copy.setColor(source.getColor());
+            copy.setColorReverse(source.getColorReverse());
+            return copy;
+
+        } else if (value instanceof DropAnimationValue) {
+            DropAnimationValue source = (DropAnimationValue) value;
+            DropAnimationValue copy = getDropAnimationValue();
+            copy.setWidth(source.getWidth());
+            copy.setHeight(source.getHeight());
+            copy.setRadius(source.getRadius());
+            return copy;
+
+        } else if (value instanceof SwapAnimationValue) {
+            SwapAnimationValue source = (SwapAnimationValue) value;
+            SwapAnimationValue copy = getSwapAnimationValue();
+            copy.setCoordinate(source.getCoordinate());
+            copy.setCoordinateReverse(source.getCoordinateReverse());
+            return copy;
+
+        } else if (value instanceof SlideAnimationValue) {
+            SlideAnimationValue source = (SlideAnimationValue) value;
+            SlideAnimationValue copy = getSlideAnimationValue();
+            copy.setCoordinate(source.getCoordinate());
+            return copy;
+        }
+
+        return null;
+    }
 
     @NonNull
     public ColorAnimationValue getColorAnimationValue() {
@@ -75,4 +153,12 @@ public class AnimationValue {
         }
         return swapAnimationValue;
     }
+
+    @NonNull
+    public SlideAnimationValue getSlideAnimationValue() {
+        if (slideAnimationValue == null) {
+            slideAnimationValue = new SlideAnimationValue();
+        }
+        return slideAnimationValue;
+    }
 }
@@ -0,0 +1,17 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ColorAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class ColorEvaluator {
+
+    public static void evaluate(@NonNull ColorAnimationValue value, @NonNull ColorPalette palette, float progress) {
+        evaluateColor(value, palette, Interpolation.accelerateDecelerate(progress));
+    }
+
+    static void evaluateColor(@NonNull ColorAnimationValue value, @NonNull ColorPalette palette, float fraction) {
+        value.setColor(palette.getColor(fraction));
+        value.setColorReverse(palette.getColor(1 - fraction));
+    }
+}
@@ -0,0 +1,66 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+/**
+ * Lookup table of colors blended between two colors, so per-frame color
+ * interpolation becomes an array index. Table is rebuilt only when colors or resolution change.
+ */
+public class ColorPalette {
+
+    public static final int DEFAULT_RESOLUTION = 256;
+    public static final int MIN_RESOLUTION = 2;
+
+    private int colorStart;
+    private int colorEnd;
+    private int[] colors;
+
+    public ColorPalette() {
+        colors = new int[DEFAULT_RESOLUTION];
+    }
+
+    public int getResolution() {
+        return colors.length;
+    }
+
+    public void setResolution(int resolution) {
+        if (resolution < MIN_RESOLUTION) {
+            resolution = MIN_RESOLUTION;
+        }
+
+        if (colors.length != resolution) {
+            colors = new int[resolution];
+            build();
+        }
+    }
+
+    public void setColors(int colorStart, int colorEnd) {
+        if (this.colorStart != colorStart || this.colorEnd != colorEnd) {
+            this.colorStart = colorStart;
+            this.colorEnd = colorEnd;
+            build();
+        }
+    }
+
+    /**
+     * Return color at given interpolated fraction, where 0 is start color and 1 is end color.
+     */
+    public int getColor(float fraction) {
+        int last = colors.length - 1;
+        int index = (int) (fraction * last + 0.5f);
+
+        if (index < 0) {
+            index = 0;
+
+        } else if (index > last) {
+            index = last;
+        }
+
+        return colors[index];
+    }
+
+    private void build() {
+        int last = colors.length - 1;
+        for (int i = 0; i <= last; i++) {
+            colors[i] = Interpolation.evaluateArgb(colorStart, colorEnd, (float) i / last);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class DropEvaluator {
+
+    /**
+     * Drop moves to target circle during the whole animation, while it falls
+     * and shrinks during the first half and rises back during the second half.
+     */
+    public static void evaluate(
+            @NonNull DropAnimationValue value,
+            int widthStart,
+            int widthEnd,
+            int heightStart,
+            int heightEnd,
+            int radius,
+            float progress) {
+
+        int toRadius = (int) (radius / 1.5);
+        float widthFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0, 1));
+        value.setWidth(Interpolation.evaluateInt(widthStart, widthEnd, widthFraction));
+
+        if (progress <= 0.5f) {
+            float fraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0, 0.5f));
+            value.setHeight(Interpolation.evaluateInt(heightStart, heightEnd, fraction));
+            value.setRadius(Interpolation.evaluateInt(radius, toRadius, fraction));
+
+        } else {
+            float fraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0.5f, 0.5f));
+            value.setHeight(Interpolation.evaluateInt(heightEnd, heightStart, fraction));
+            value.setRadius(Interpolation.evaluateInt(toRadius, radius, fraction));
+        }
+    }
+}
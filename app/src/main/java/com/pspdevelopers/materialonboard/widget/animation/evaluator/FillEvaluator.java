@@ -0,0 +1,24 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.FillAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class FillEvaluator {
+
+    /**
+     * Selecting circle shrinks to half of radius while its stroke fills it,
+     * previously selected circle grows back while its stroke disappears.
+     */
+    public static void evaluate(@NonNull FillAnimationValue value, @NonNull ColorPalette palette, int radius, float progress) {
+        float fraction = Interpolation.accelerateDecelerate(progress);
+        ColorEvaluator.evaluateColor(value, palette, fraction);
+
+        int halfRadius = radius / 2;
+        value.setRadius(Interpolation.evaluateInt(radius, halfRadius, fraction));
+        value.setRadiusReverse(Interpolation.evaluateInt(halfRadius, radius, fraction));
+
+        value.setStroke(Interpolation.evaluateInt(0, radius, fraction));
+        value.setStrokeReverse(Interpolation.evaluateInt(radius, 0, fraction));
+    }
+}
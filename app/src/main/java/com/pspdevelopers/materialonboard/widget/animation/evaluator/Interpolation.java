@@ -0,0 +1,83 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+/**
+ * Plain math used by evaluators to compute animation values directly from progress,
+ * matching what Android animators produce for the same fraction.
+ */
+public class Interpolation {
+
+    /**
+     * Table driven version of {@link android.view.animation.AccelerateDecelerateInterpolator},
+     * shared by all indicator animations.
+     */
+    public static final LookupInterpolator ACCELERATE_DECELERATE = new LookupInterpolator(LookupInterpolator.CURVE_ACCELERATE_DECELERATE);
+
+    /**
+     * Same curve as {@link android.view.animation.AccelerateDecelerateInterpolator}.
+     */
+    public static float accelerateDecelerate(float input) {
+        return ACCELERATE_DECELERATE.getInterpolation(input);
+    }
+
+    /**
+     * Return fraction of a child animation which starts at given part of the whole animation
+     * and lasts given part of it, limited to range [0 - 1].
+     */
+    public static float fraction(float progress, float start, float length) {
+        if (length <= 0) {
+            return progress >= start ? 1 : 0;
+        }
+
+        float fraction = (progress - start) / length;
+        if (fraction < 0) {
+            return 0;
+
+        } else if (fraction > 1) {
+            return 1;
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Same result as {@link android.animation.IntEvaluator}.
+     */
+    public static int evaluateInt(int startValue, int endValue, float fraction) {
+        return (int) (startValue + fraction * (endValue - startValue));
+    }
+
+    /**
+     * Same result as {@link android.animation.ArgbEvaluator}, blending colors in linear color space.
+     */
+    public static int evaluateArgb(int startValue, int endValue, float fraction) {
+        float startA = ((startValue >> 24) & 0xff) / 255.0f;
+        float startR = ((startValue >> 16) & 0xff) / 255.0f;
+        float startG = ((startValue >> 8) & 0xff) / 255.0f;
+        float startB = (startValue & 0xff) / 255.0f;
+
+        float endA = ((endValue >> 24) & 0xff) / 255.0f;
+        float endR = ((endValue >> 16) & 0xff) / 255.0f;
+        float endG = ((endValue >> 8) & 0xff) / 255.0f;
+        float endB = (endValue & 0xff) / 255.0f;
+
+        startR = (float) Math.pow(startR, 2.2);
+        startG = (float) Math.pow(startG, 2.2);
+        startB = (float) Math.pow(startB, 2.2);
+
+        endR = (float) Math.pow(endR, 2.2);
+        endG = (float) Math.pow(endG, 2.2);
+        endB = (float) Math.pow(endB, 2.2);
+
+        float a = startA + fraction * (endA - startA);
+        float r = startR + fraction * (endR - startR);
+        float g = startG + fraction * (endG - startG);
+        float b = startB + fraction * (endB - startB);
+
+        a = a * 255.0f;
+        r = (float) Math.pow(r, 1.0 / 2.2) * 255.0f;
+        g = (float) Math.pow(g, 1.0 / 2.2) * 255.0f;
+        b = (float) Math.pow(b, 1.0 / 2.2) * 255.0f;
+
+        return Math.round(a) << 24 | Math.round(r) << 16 | Math.round(g) << 8 | Math.round(b);
+    }
+}
@@ -0,0 +1,90 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import android.animation.TimeInterpolator;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Interpolator which samples given curve into a table once
+ * and linearly interpolates between samples, so no trigonometry is evaluated per frame.
+ */
+public class LookupInterpolator implements TimeInterpolator {
+
+    public static final int DEFAULT_SAMPLE_COUNT = 256;
+    public static final int MIN_SAMPLE_COUNT = 2;
+
+    public static final TimeInterpolator CURVE_LINEAR = new TimeInterpolator() {
+        @Override
+        public float getInterpolation(float input) {
+            return input;
+        }
+    };
+
+    public static final TimeInterpolator CURVE_ACCELERATE = new TimeInterpolator() {
+        @Override
+        public float getInterpolation(float input) {
+            return input * input;
+        }
+    };
+
+    public static final TimeInterpolator CURVE_DECELERATE = new TimeInterpolator() {
+        @Override
+        public float getInterpolation(float input) {
+            return 1.0f - (1.0f - input) * (1.0f - input);
+        }
+    };
+
+    public static final TimeInterpolator CURVE_ACCELERATE_DECELERATE = new TimeInterpolator() {
+        @Override
+        public float getInterpolation(float input) {
+            return (float) (Math.cos((input + 1) * Math.PI) / 2.0f) + 0.5f;
+        }
+    };
+
+    private final float[] samples;
+
+    public LookupInterpolator(@NonNull TimeInterpolator curve) {
+        this(curve, DEFAULT_SAMPLE_COUNT);
+    }
+
+    /**
+     * @param curve       curve to sample, evaluated only in constructor.
+     * @param sampleCount number of samples taken evenly in range [0 - 1], at least {@link #MIN_SAMPLE_COUNT}.
+     */
+    public LookupInterpolator(@NonNull TimeInterpolator curve, int sampleCount) {
+        if (sampleCount < MIN_SAMPLE_COUNT) {
+            sampleCount = MIN_SAMPLE_COUNT;
+        }
+
+        samples = new float[sampleCount];
+        int last = sampleCount - 1;
+
+        for (int i = 0; i <= last; i++) {
+            samples[i] = curve.getInterpolation((float) i / last);
+        }
+    }
+
+    public int getSampleCount() {
+        return samples.length;
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+        int last = samples.length - 1;
+        if (input <= 0) {
+            return samples[0];
+
+        } else if (input >= 1) {
+            return samples[last];
+        }
+
+        float position = input * last;
+        int index = (int) position;
+        if (index >= last) {
+            return samples[last];
+        }
+
+        float start = samples[index];
+        return start + (samples[index + 1] - start) * (position - index);
+    }
+}
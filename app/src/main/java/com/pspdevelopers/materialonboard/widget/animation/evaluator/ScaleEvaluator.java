@@ -0,0 +1,22 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ScaleAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class ScaleEvaluator {
+
+    public static void evaluate(
+            @NonNull ScaleAnimationValue value,
+            @NonNull ColorPalette palette,
+            int radiusStart,
+            int radiusEnd,
+            float progress) {
+
+        float fraction = Interpolation.accelerateDecelerate(progress);
+        ColorEvaluator.evaluateColor(value, palette, fraction);
+
+        value.setRadius(Interpolation.evaluateInt(radiusStart, radiusEnd, fraction));
+        value.setRadiusReverse(Interpolation.evaluateInt(radiusEnd, radiusStart, fraction));
+    }
+}
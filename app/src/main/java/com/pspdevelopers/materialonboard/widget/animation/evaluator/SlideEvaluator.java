@@ -0,0 +1,13 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.SlideAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class SlideEvaluator {
+
+    public static void evaluate(@NonNull SlideAnimationValue value, int coordinateStart, int coordinateEnd, float progress) {
+        float fraction = Interpolation.accelerateDecelerate(progress);
+        value.setCoordinate(Interpolation.evaluateInt(coordinateStart, coordinateEnd, fraction));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+/**
+ * Critically damped spring pulling position towards 1.
+ * Each step applies exact solution of spring equation, so it stays stable for any frame interval.
+ */
+public class Spring {
+
+    public static final float REST_THRESHOLD = 0.002f;
+
+    /**
+     * Product of frequency and time at which spring released at rest
+     * gets within {@link #REST_THRESHOLD} of its target.
+     */
+    private static final float SETTLE_FACTOR = 8.4f;
+
+    private float position;
+    private float velocity;
+    private float frequency;
+
+    /**
+     * @param position         start position.
+     * @param velocity         start velocity, in position units per second.
+     * @param settleDurationMs time in milliseconds spring released at rest takes to settle.
+     */
+    public void reset(float position, float velocity, long settleDurationMs) {
+        this.position = position;
+        this.velocity = velocity;
+        this.frequency = settleDurationMs > 0 ? SETTLE_FACTOR * 1000 / settleDurationMs : 0;
+    }
+
+    public void step(float seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+
+        float displacement = position - 1;
+        float decay = (float) Math.exp(-frequency * seconds);
+        float slope = velocity + frequency * displacement;
+
+        position = 1 + (displacement + slope * seconds) * decay;
+        velocity = (velocity - frequency * slope * seconds) * decay;
+    }
+
+    /**
+     * Return true once spring reached its target, or got close enough that further frames would not be visible.
+     */
+    public boolean isAtRest() {
+        return position >= 1 - REST_THRESHOLD;
+    }
+
+    public float getPosition() {
+        return position;
+    }
+
+    public float getVelocity() {
+        return velocity;
+    }
+}
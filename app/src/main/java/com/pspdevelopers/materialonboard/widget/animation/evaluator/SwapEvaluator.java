@@ -0,0 +1,15 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.SwapAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class SwapEvaluator {
+
+    public static void evaluate(@NonNull SwapAnimationValue value, int coordinateStart, int coordinateEnd, float progress) {
+        float fraction = Interpolation.accelerateDecelerate(progress);
+
+        value.setCoordinate(Interpolation.evaluateInt(coordinateStart, coordinateEnd, fraction));
+        value.setCoordinateReverse(Interpolation.evaluateInt(coordinateEnd, coordinateStart, fraction));
+    }
+}
@@ -0,0 +1,35 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ThinWormAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class ThinWormEvaluator {
+
+    /**
+     * Both worm edges move during 80% of animation, trailing one starting with 20% delay,
+     * while worm height shrinks to radius during the first half and grows back during the second half.
+     */
+    public static void evaluate(
+            @NonNull ThinWormAnimationValue value,
+            int coordinateStart,
+            int coordinateEnd,
+            int radius,
+            boolean isRightSide,
+            float progress) {
+
+        float straightFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0, 0.8f));
+        float reverseFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0.2f, 0.8f));
+        WormEvaluator.evaluateEdges(value, coordinateStart, coordinateEnd, radius, isRightSide, straightFraction, reverseFraction);
+
+        int height = radius * 2;
+        if (progress <= 0.5f) {
+            float heightFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0, 0.5f));
+            value.setHeight(Interpolation.evaluateInt(height, radius, heightFraction));
+
+        } else {
+            float heightFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0.5f, 0.5f));
+            value.setHeight(Interpolation.evaluateInt(radius, height, heightFraction));
+        }
+    }
+}
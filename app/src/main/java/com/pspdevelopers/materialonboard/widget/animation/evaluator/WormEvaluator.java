@@ -0,0 +1,49 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class WormEvaluator {
+
+    /**
+     * Leading edge of the worm moves to target circle during the first half of animation,
+     * trailing edge follows it during the second half.
+     */
+    public static void evaluate(
+            @NonNull WormAnimationValue value,
+            int coordinateStart,
+            int coordinateEnd,
+            int radius,
+            boolean isRightSide,
+            float progress) {
+
+        float straightFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0, 0.5f));
+        float reverseFraction = Interpolation.accelerateDecelerate(Interpolation.fraction(progress, 0.5f, 0.5f));
+
+        evaluateEdges(value, coordinateStart, coordinateEnd, radius, isRightSide, straightFraction, reverseFraction);
+    }
+
+    static void evaluateEdges(
+            @NonNull WormAnimationValue value,
+            int coordinateStart,
+            int coordinateEnd,
+            int radius,
+            boolean isRightSide,
+            float straightFraction,
+            float reverseFraction) {
+
+        int leadingOffset = isRightSide ? radius : -radius;
+        int straightEdge = Interpolation.evaluateInt(coordinateStart + leadingOffset, coordinateEnd + leadingOffset, straightFraction);
+        int reverseEdge = Interpolation.evaluateInt(coordinateStart - leadingOffset, coordinateEnd - leadingOffset, reverseFraction);
+
+        if (isRightSide) {
+            value.setRectStart(reverseEdge);
+            value.setRectEnd(straightEdge);
+
+        } else {
+            value.setRectStart(straightEdge);
+            value.setRectEnd(reverseEdge);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package com.pspdevelopers.materialonboard.widget.animation.type;
+
+public enum AnimationTiming {DURATION, SPRING}
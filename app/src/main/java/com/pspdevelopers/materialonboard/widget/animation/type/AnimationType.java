@@ -1,3 +1,3 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-public enum AnimationType {NONE, COLOR, LINE, THIN_LINE, SWAP}
+public enum AnimationType {NONE, COLOR, LINE, THIN_LINE, SWAP, SCALE, FILL, SLIDE, DROP, SCALE_DOWN}
@@ -3,7 +3,9 @@ package com.pspdevelopers.materialonboard.widget.animation.type;
 import android.animation.Animator;
 import android.animation.ValueAnimator;
 
+import com.pspdevelopers.materialonboard.widget.animation.controller.FrameClock;
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.Spring;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -11,21 +13,110 @@ import androidx.annotation.Nullable;
 public abstract class BaseAnimation<T extends Animator> {
 
     public static final int DEFAULT_ANIMATION_TIME = 350;
+    protected static final float PROGRESS_NONE = -1;
+    private static final long TIME_NONE = -1;
+
     protected long animationDuration = DEFAULT_ANIMATION_TIME;
 
     protected ValueController.UpdateListener listener;
     protected T animator;
 
+    private FrameClock.Callback frameCallback;
+    private long startTimeNanos = TIME_NONE;
+    private long lastFrameTimeNanos = TIME_NONE;
+    private long durationNanos;
+    private float durationScale;
+
+    private AnimationTiming timing = AnimationTiming.DURATION;
+    private float springVelocity;
+    private Spring spring;
+
+    private float lastProgress;
+    private float previousProgress = PROGRESS_NONE;
+    private long previousDuration;
+    private boolean isBlending;
+    private boolean isRestarting;
+
     public BaseAnimation(@Nullable ValueController.UpdateListener listener) {
         this.listener = listener;
         animator = createAnimator();
     }
 
-    @NonNull
-    public abstract T createAnimator();
+    /**
+     * Create animator which runs this animation, or return null if animation is only ticked
+     * by {@link FrameClock} and never needs one.
+     */
+    @Nullable
+    public T createAnimator() {
+        return null;
+    }
 
     public abstract BaseAnimation progress(float progress);
 
+    /**
+     * Return true if {@link #progress(float)} computes animation values with an evaluator,
+     * so time-driven run could be ticked by {@link FrameClock} instead of animator.
+     */
+    protected boolean isEvaluated() {
+        return false;
+    }
+
+    /**
+     * Return true if running animation could be redirected to a new target with {@link #retarget()}.
+     */
+    protected boolean canRetarget() {
+        return false;
+    }
+
+    /**
+     * Keep trajectory animation is currently running along, so it could be blended
+     * with the new one after retarget.
+     *
+     * @param isFrozen true if current value should be kept as is, because it is already a blend of two trajectories.
+     */
+    protected void savePrevious(boolean isFrozen) {
+    }
+
+    /**
+     * Blend current animation value with the previous trajectory.
+     *
+     * @param previousProgress progress of previous trajectory, or {@link #PROGRESS_NONE} if previous value is frozen.
+     * @param weight           weight of current value in range [0 - 1].
+     */
+    protected void blendPrevious(float previousProgress, float weight) {
+    }
+
+    public boolean isRunning() {
+        return frameCallback != null && FrameClock.getInstance().contains(frameCallback);
+    }
+
+    /**
+     * Return true while animation value is blended between previous and current trajectory.
+     */
+    public boolean isBlending() {
+        return isBlending;
+    }
+
+    /**
+     * Redirect running animation to the target set by following with() call instead of snapping it to the end.
+     * Previous trajectory keeps running and is cross-faded into the new one,
+     * so both position and velocity of the indicator stay continuous.
+     * Animation which is not running or can't be redirected is ended instead.
+     */
+    public void retarget() {
+        if (!canRetarget() || !isRunning()) {
+            end();
+            return;
+        }
+
+        savePrevious(isBlending);
+        previousProgress = isBlending ? PROGRESS_NONE : lastProgress;
+        previousDuration = animationDuration;
+
+        isBlending = true;
+        isRestarting = true;
+    }
+
     public BaseAnimation duration(long duration) {
         animationDuration = duration;
 
@@ -36,15 +127,159 @@ public abstract class BaseAnimation<T extends Animator> {
         return this;
     }
 
+    /**
+     * Set timing model of the next time-driven run.
+     *
+     * @param timing   {@link AnimationTiming#DURATION} to run for animation duration,
+     *                 or {@link AnimationTiming#SPRING} to let a spring settle, which takes about animation duration when released at rest.
+     * @param velocity start velocity of spring in progress units per second, ignored for duration timing.
+     */
+    public BaseAnimation timing(@NonNull AnimationTiming timing, float velocity) {
+        this.timing = timing;
+        this.springVelocity = velocity;
+        return this;
+    }
+
     public void start() {
-        if (animator != null && !animator.isRunning()) {
+        if (isEvaluated()) {
+            startFrames();
+
+        } else if (animator != null && !animator.isRunning()) {
             animator.start();
         }
     }
 
     public void end() {
-        if (animator != null && animator.isStarted()) {
+        isBlending = false;
+        isRestarting = false;
+
+        if (isEvaluated()) {
+            endFrames();
+
+        } else if (animator != null && animator.isStarted()) {
             animator.end();
         }
     }
+
+    private void startFrames() {
+        FrameClock clock = FrameClock.getInstance();
+        boolean isRunning = isRunning();
+        if (isRunning && !isRestarting) {
+            return;
+        }
+
+        isRestarting = false;
+        durationScale = FrameClock.getDurationScale();
+        durationNanos = (long) (animationDuration * durationScale * 1_000_000);
+        if (durationNanos <= 0) {
+            isBlending = false;
+            if (isRunning) {
+                clock.remove(frameCallback);
+            }
+
+            progress(1);
+            return;
+        }
+
+        if (timing == AnimationTiming.SPRING) {
+            if (spring == null) {
+                spring = new Spring();
+            }
+
+            spring.reset(0, springVelocity, animationDuration);
+        }
+
+        if (isRunning) {
+            startTimeNanos = TIME_NONE;
+            lastFrameTimeNanos = TIME_NONE;
+            return;
+        }
+
+        if (frameCallback == null) {
+            frameCallback = new FrameClock.Callback() {
+                @Override
+                public boolean doFrame(long frameTimeNanos) {
+                    return onFrame(frameTimeNanos);
+                }
+            };
+        }
+
+        startTimeNanos = TIME_NONE;
+        lastFrameTimeNanos = TIME_NONE;
+        progress(0);
+        clock.add(frameCallback);
+    }
+
+    private void endFrames() {
+        if (frameCallback == null) {
+            return;
+        }
+
+        FrameClock clock = FrameClock.getInstance();
+        if (clock.contains(frameCallback)) {
+            clock.remove(frameCallback);
+            progress(1);
+        }
+    }
+
+    private boolean onFrame(long frameTimeNanos) {
+        if (startTimeNanos == TIME_NONE) {
+            startTimeNanos = frameTimeNanos;
+        }
+
+        float fraction;
+        if (timing == AnimationTiming.SPRING) {
+            fraction = stepSpring(frameTimeNanos);
+
+        } else {
+            fraction = (float) (frameTimeNanos - startTimeNanos) / durationNanos;
+            if (fraction > 1) {
+                fraction = 1;
+            }
+        }
+
+        lastFrameTimeNanos = frameTimeNanos;
+        lastProgress = fraction;
+        progress(fraction);
+        return fraction < 1;
+    }
+
+    /**
+     * Advance spring by time passed since previous frame and return its position as animation progress.
+     */
+    private float stepSpring(long frameTimeNanos) {
+        if (lastFrameTimeNanos != TIME_NONE) {
+            spring.step((frameTimeNanos - lastFrameTimeNanos) / (durationScale * 1_000_000_000f));
+        }
+
+        if (spring.isAtRest()) {
+            return 1;
+        }
+
+        return Math.max(0, spring.getPosition());
+    }
+
+    /**
+     * Blend value just evaluated for given progress with the previous trajectory, if animation was retargeted.
+     * Weight follows smoothstep curve, which starts and ends with zero slope.
+     */
+    protected void blend(float progress) {
+        if (!isBlending) {
+            return;
+        }
+
+        if (progress >= 1) {
+            isBlending = false;
+            return;
+        }
+
+        float previous = PROGRESS_NONE;
+        if (previousProgress != PROGRESS_NONE) {
+            float step = previousDuration > 0 ? (float) animationDuration / previousDuration : 1;
+            previous = Math.min(1, previousProgress + progress * step);
+        }
+
+        float weight = progress * progress * (3 - 2 * progress);
+        blendPrevious(previous, weight);
+    }
 }
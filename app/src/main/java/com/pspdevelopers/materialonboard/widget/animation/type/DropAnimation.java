@@ -1,16 +1,15 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
 import android.animation.Animator;
-import android.animation.AnimatorSet;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
 
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.DropEvaluator;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.Interpolation;
 
 import androidx.annotation.NonNull;
 
-public class DropAnimation extends BaseAnimation<AnimatorSet> {
+public class DropAnimation extends BaseAnimation<Animator> {
 
     private int widthStart;
     private int widthEnd;
@@ -19,50 +18,28 @@ public class DropAnimation extends BaseAnimation<AnimatorSet> {
     private int radius;
     private DropAnimationValue value;
 
+    private int previousWidthStart;
+    private int previousWidthEnd;
+    private DropAnimationValue previousValue;
+
     public DropAnimation(@NonNull ValueController.UpdateListener listener) {
         super(listener);
         value = new DropAnimationValue();
+        previousValue = new DropAnimationValue();
     }
 
-    @NonNull
     @Override
-    public AnimatorSet createAnimator() {
-        AnimatorSet animator = new AnimatorSet();
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-
-        return animator;
+    protected boolean isEvaluated() {
+        return true;
     }
 
     @Override
     public DropAnimation progress(float progress) {
-        if (animator != null) {
-            long playTimeLeft = (long) (progress * animationDuration);
-            boolean isReverse = false;
-
-            for (Animator anim : animator.getChildAnimations()) {
-                ValueAnimator animator = (ValueAnimator) anim;
-                long animDuration = animator.getDuration();
-                long currPlayTime = playTimeLeft;
-
-                if (isReverse) {
-                    currPlayTime -= animDuration;
-                }
-
-                if (currPlayTime < 0) {
-                    continue;
-
-                } else if (currPlayTime >= animDuration) {
-                    currPlayTime = animDuration;
-                }
-
-                if (animator.getValues() != null && animator.getValues().length > 0) {
-                    animator.setCurrentPlayTime(currPlayTime);
-                }
-
-                if (!isReverse && animDuration >= animationDuration) {
-                    isReverse = true;
-                }
-            }
+        DropEvaluator.evaluate(value, widthStart, widthEnd, heightStart, heightEnd, radius, progress);
+        blend(progress);
+
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
@@ -74,72 +51,44 @@ public class DropAnimation extends BaseAnimation<AnimatorSet> {
         return this;
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
     public DropAnimation with(int widthStart, int widthEnd, int heightStart, int heightEnd, int radius) {
         if (hasChanges(widthStart, widthEnd, heightStart, heightEnd, radius)) {
-            animator = createAnimator();
-
             this.widthStart = widthStart;
             this.widthEnd = widthEnd;
             this.heightStart = heightStart;
             this.heightEnd = heightEnd;
             this.radius = radius;
-
-            int fromRadius = radius;
-            int toRadius = (int) (radius / 1.5);
-            long halfDuration = animationDuration / 2;
-
-            ValueAnimator widthAnimator = createValueAnimation(widthStart, widthEnd, animationDuration, AnimationType.Width);
-            ValueAnimator heightForwardAnimator = createValueAnimation(heightStart, heightEnd, halfDuration, AnimationType.Height);
-            ValueAnimator radiusForwardAnimator = createValueAnimation(fromRadius, toRadius, halfDuration, AnimationType.Radius);
-
-            ValueAnimator heightBackwardAnimator = createValueAnimation(heightEnd, heightStart, halfDuration, AnimationType.Height);
-            ValueAnimator radiusBackwardAnimator = createValueAnimation(toRadius, fromRadius, halfDuration, AnimationType.Radius);
-
-            animator.play(heightForwardAnimator)
-                    .with(radiusForwardAnimator)
-                    .with(widthAnimator)
-                    .before(heightBackwardAnimator)
-                    .before(radiusBackwardAnimator);
         }
 
         return this;
     }
 
-    private ValueAnimator createValueAnimation(int fromValue, int toValue, long duration, final AnimationType type) {
-        ValueAnimator anim = ValueAnimator.ofInt(fromValue, toValue);
-        anim.setInterpolator(new AccelerateDecelerateInterpolator());
-        anim.setDuration(duration);
-        anim.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimatorUpdate(animation, type);
-            }
-        });
-
-        return anim;
+    @Override
+    protected boolean canRetarget() {
+        return true;
     }
 
-    private void onAnimatorUpdate(@NonNull ValueAnimator animation, @NonNull AnimationType type) {
-        int frameValue = (int) animation.getAnimatedValue();
-
-        switch (type) {
-            case Width:
-                value.setWidth(frameValue);
-                break;
-
-            case Height:
-                value.setHeight(frameValue);
-                break;
-
-            case Radius:
-                value.setRadius(frameValue);
-                break;
+    @Override
+    protected void savePrevious(boolean isFrozen) {
+        previousWidthStart = widthStart;
+        previousWidthEnd = widthEnd;
+
+        if (isFrozen) {
+            previousValue.setWidth(value.getWidth());
+            previousValue.setHeight(value.getHeight());
+            previousValue.setRadius(value.getRadius());
         }
+    }
 
-        if (listener != null) {
-            listener.onValueUpdated(value);
+    @Override
+    protected void blendPrevious(float previousProgress, float weight) {
+        if (previousProgress != PROGRESS_NONE) {
+            DropEvaluator.evaluate(previousValue, previousWidthStart, previousWidthEnd, heightStart, heightEnd, radius, previousProgress);
         }
+
+        value.setWidth(Interpolation.evaluateInt(previousValue.getWidth(), value.getWidth(), weight));
+        value.setHeight(Interpolation.evaluateInt(previousValue.getHeight(), value.getHeight(), weight));
+        value.setRadius(Interpolation.evaluateInt(previousValue.getRadius(), value.getRadius(), weight));
     }
 
     @SuppressWarnings("RedundantIfStatement")
@@ -167,6 +116,4 @@ public class DropAnimation extends BaseAnimation<AnimatorSet> {
         return false;
     }
 
-    private enum AnimationType {Width, Height, Radius}
-
 }
@@ -1,22 +1,14 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
-
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.FillAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.FillEvaluator;
 
 import androidx.annotation.NonNull;
 
 public class FillAnimation extends ColorAnimation {
 
     public static final int DEFAULT_STROKE_DP = 1;
-    private static final String ANIMATION_RADIUS_REVERSE = "ANIMATION_RADIUS_REVERSE";
-    private static final String ANIMATION_RADIUS = "ANIMATION_RADIUS";
-    private static final String ANIMATION_STROKE_REVERSE = "ANIMATION_STROKE_REVERSE";
-    private static final String ANIMATION_STROKE = "ANIMATION_STROKE";
     private FillAnimationValue value;
 
     private int radius;
@@ -27,25 +19,20 @@ public class FillAnimation extends ColorAnimation {
         value = new FillAnimationValue();
     }
 
-    @NonNull
     @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(BaseAnimation.DEFAULT_ANIMATION_TIME);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
+    public FillAnimation progress(float progress) {
+        FillEvaluator.evaluate(value, palette, radius, progress);
+
+        if (listener != null) {
+            listener.onValueUpdated(value);
+        }
+
+        return this;
     }
 
     @NonNull
     public FillAnimation with(int colorStart, int colorEnd, int radius, int stroke) {
-        if (animator != null && hasChanges(colorStart, colorEnd, radius, stroke)) {
+        if (hasChanges(colorStart, colorEnd, radius, stroke)) {
 
             this.colorStart = colorStart;
             this.colorEnd = colorEnd;
@@ -53,97 +40,12 @@ public class FillAnimation extends ColorAnimation {
             this.radius = radius;
             this.stroke = stroke;
 
-            PropertyValuesHolder colorHolder = createColorPropertyHolder(false);
-            PropertyValuesHolder reverseColorHolder = createColorPropertyHolder(true);
-
-            PropertyValuesHolder radiusHolder = createRadiusPropertyHolder(false);
-            PropertyValuesHolder radiusReverseHolder = createRadiusPropertyHolder(true);
-
-            PropertyValuesHolder strokeHolder = createStrokePropertyHolder(false);
-            PropertyValuesHolder strokeReverseHolder = createStrokePropertyHolder(true);
-
-            animator.setValues(
-                    colorHolder,
-                    reverseColorHolder,
-
-                    radiusHolder,
-                    radiusReverseHolder,
-
-                    strokeHolder,
-                    strokeReverseHolder);
+            palette.setColors(colorStart, colorEnd);
         }
 
         return this;
     }
 
-    @NonNull
-    private PropertyValuesHolder createRadiusPropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startRadiusValue;
-        int endRadiusValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_RADIUS_REVERSE;
-            startRadiusValue = radius / 2;
-            endRadiusValue = radius;
-        } else {
-            propertyName = ANIMATION_RADIUS;
-            startRadiusValue = radius;
-            endRadiusValue = radius / 2;
-        }
-
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startRadiusValue, endRadiusValue);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
-    }
-
-    @NonNull
-    private PropertyValuesHolder createStrokePropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startStrokeValue;
-        int endStrokeValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_STROKE_REVERSE;
-            startStrokeValue = radius;
-            endStrokeValue = 0;
-        } else {
-            propertyName = ANIMATION_STROKE;
-            startStrokeValue = 0;
-            endStrokeValue = radius;
-        }
-
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startStrokeValue, endStrokeValue);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
-    }
-
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int color = (int) animation.getAnimatedValue(ANIMATION_COLOR);
-        int colorReverse = (int) animation.getAnimatedValue(ANIMATION_COLOR_REVERSE);
-
-        int radius = (int) animation.getAnimatedValue(ANIMATION_RADIUS);
-        int radiusReverse = (int) animation.getAnimatedValue(ANIMATION_RADIUS_REVERSE);
-
-        int stroke = (int) animation.getAnimatedValue(ANIMATION_STROKE);
-        int strokeReverse = (int) animation.getAnimatedValue(ANIMATION_STROKE_REVERSE);
-
-        value.setColor(color);
-        value.setColorReverse(colorReverse);
-
-        value.setRadius(radius);
-        value.setRadiusReverse(radiusReverse);
-
-        value.setStroke(stroke);
-        value.setStrokeReverse(strokeReverse);
-
-        if (listener != null) {
-            listener.onValueUpdated(value);
-        }
-    }
-
     @SuppressWarnings("RedundantIfStatement")
     private boolean hasChanges(int colorStart, int colorEnd, int radiusValue, int strokeValue) {
         if (this.colorStart != colorStart) {
@@ -1,12 +1,8 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
-
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.ScaleAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.ScaleEvaluator;
 
 import androidx.annotation.NonNull;
 
@@ -16,9 +12,6 @@ public class ScaleAnimation extends ColorAnimation {
     public static final float MIN_SCALE_FACTOR = 0.3f;
     public static final float MAX_SCALE_FACTOR = 1;
 
-    static final String ANIMATION_SCALE_REVERSE = "ANIMATION_SCALE_REVERSE";
-    static final String ANIMATION_SCALE = "ANIMATION_SCALE";
-
     int radius;
     float scaleFactor;
 
@@ -29,25 +22,20 @@ public class ScaleAnimation extends ColorAnimation {
         value = new ScaleAnimationValue();
     }
 
-    @NonNull
     @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(BaseAnimation.DEFAULT_ANIMATION_TIME);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
+    public ScaleAnimation progress(float progress) {
+        ScaleEvaluator.evaluate(value, palette, getRadiusStart(), getRadiusEnd(), progress);
+
+        if (listener != null) {
+            listener.onValueUpdated(value);
+        }
+
+        return this;
     }
 
     @NonNull
     public ScaleAnimation with(int colorStart, int colorEnd, int radius, float scaleFactor) {
-        if (animator != null && hasChanges(colorStart, colorEnd, radius, scaleFactor)) {
+        if (hasChanges(colorStart, colorEnd, radius, scaleFactor)) {
 
             this.colorStart = colorStart;
             this.colorEnd = colorEnd;
@@ -55,56 +43,24 @@ public class ScaleAnimation extends ColorAnimation {
             this.radius = radius;
             this.scaleFactor = scaleFactor;
 
-            PropertyValuesHolder colorHolder = createColorPropertyHolder(false);
-            PropertyValuesHolder reverseColorHolder = createColorPropertyHolder(true);
-
-            PropertyValuesHolder scaleHolder = createScalePropertyHolder(false);
-            PropertyValuesHolder scaleReverseHolder = createScalePropertyHolder(true);
-
-            animator.setValues(colorHolder, reverseColorHolder, scaleHolder, scaleReverseHolder);
+            palette.setColors(colorStart, colorEnd);
         }
 
         return this;
     }
 
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int color = (int) animation.getAnimatedValue(ANIMATION_COLOR);
-        int colorReverse = (int) animation.getAnimatedValue(ANIMATION_COLOR_REVERSE);
-
-        int radius = (int) animation.getAnimatedValue(ANIMATION_SCALE);
-        int radiusReverse = (int) animation.getAnimatedValue(ANIMATION_SCALE_REVERSE);
-
-        value.setColor(color);
-        value.setColorReverse(colorReverse);
-
-        value.setRadius(radius);
-        value.setRadiusReverse(radiusReverse);
-
-        if (listener != null) {
-            listener.onValueUpdated(value);
-        }
+    /**
+     * Return radius of selecting circle at the start of animation.
+     */
+    protected int getRadiusStart() {
+        return (int) (radius * scaleFactor);
     }
 
-    @NonNull
-    protected PropertyValuesHolder createScalePropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startRadiusValue;
-        int endRadiusValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_SCALE_REVERSE;
-            startRadiusValue = radius;
-            endRadiusValue = (int) (radius * scaleFactor);
-        } else {
-            propertyName = ANIMATION_SCALE;
-            startRadiusValue = (int) (radius * scaleFactor);
-            endRadiusValue = radius;
-        }
-
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startRadiusValue, endRadiusValue);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
+    /**
+     * Return radius of selecting circle at the end of animation.
+     */
+    protected int getRadiusEnd() {
+        return radius;
     }
 
     @SuppressWarnings("RedundantIfStatement")
@@ -128,4 +84,3 @@ public class ScaleAnimation extends ColorAnimation {
         return false;
     }
 }
-
@@ -1,8 +1,5 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 
 import androidx.annotation.NonNull;
@@ -13,27 +10,25 @@ public class ScaleDownAnimation extends ScaleAnimation {
         super(listener);
     }
 
-    @NonNull
-    @Override
-    protected PropertyValuesHolder createScalePropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startRadiusValue;
-        int endRadiusValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_SCALE_REVERSE;
-            startRadiusValue = (int) (radius * scaleFactor);
-            endRadiusValue = radius;
-        } else {
-            propertyName = ANIMATION_SCALE;
-            startRadiusValue = radius;
-            endRadiusValue = (int) (radius * scaleFactor);
-        }
+    /**
+     * Return radius this animation produces at given fraction, without running the animation.
+     *
+     * @param radius      full radius of circle.
+     * @param scaleFactor factor circle is scaled down to at the end of animation.
+     * @param fraction    fraction of animation in range [0 - 1].
+     */
+    public static float getScaledRadius(int radius, float scaleFactor, float fraction) {
+        float endRadius = (int) (radius * scaleFactor);
+        return radius + (endRadius - radius) * fraction;
+    }
 
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startRadiusValue, endRadiusValue);
-        holder.setEvaluator(new IntEvaluator());
+    @Override
+    protected int getRadiusStart() {
+        return radius;
+    }
 
-        return holder;
+    @Override
+    protected int getRadiusEnd() {
+        return (int) (radius * scaleFactor);
     }
 }
-
@@ -1,53 +1,44 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
+import android.animation.Animator;
 
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.SlideAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.Interpolation;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.SlideEvaluator;
 
 import androidx.annotation.NonNull;
 
-public class SlideAnimation extends BaseAnimation<ValueAnimator> {
+public class SlideAnimation extends BaseAnimation<Animator> {
 
-    private static final String ANIMATION_COORDINATE = "ANIMATION_COORDINATE";
     private static final int COORDINATE_NONE = -1;
 
     private SlideAnimationValue value;
     private int coordinateStart = COORDINATE_NONE;
     private int coordinateEnd = COORDINATE_NONE;
 
+    private SlideAnimationValue previousValue;
+    private int previousCoordinateStart;
+    private int previousCoordinateEnd;
+
     public SlideAnimation(@NonNull ValueController.UpdateListener listener) {
         super(listener);
         value = new SlideAnimationValue();
+        previousValue = new SlideAnimationValue();
     }
 
-    @NonNull
     @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(BaseAnimation.DEFAULT_ANIMATION_TIME);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
+    protected boolean isEvaluated() {
+        return true;
     }
 
     @Override
     public SlideAnimation progress(float progress) {
-        if (animator != null) {
-            long playTime = (long) (progress * animationDuration);
+        SlideEvaluator.evaluate(value, coordinateStart, coordinateEnd, progress);
+        blend(progress);
 
-            if (animator.getValues() != null && animator.getValues().length > 0) {
-                animator.setCurrentPlayTime(playTime);
-            }
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
@@ -55,34 +46,39 @@ public class SlideAnimation extends BaseAnimation<ValueAnimator> {
 
     @NonNull
     public SlideAnimation with(int coordinateStart, int coordinateEnd) {
-        if (animator != null && hasChanges(coordinateStart, coordinateEnd)) {
+        if (hasChanges(coordinateStart, coordinateEnd)) {
 
             this.coordinateStart = coordinateStart;
             this.coordinateEnd = coordinateEnd;
-
-            PropertyValuesHolder holder = createSlidePropertyHolder();
-            animator.setValues(holder);
         }
 
         return this;
     }
 
-    private PropertyValuesHolder createSlidePropertyHolder() {
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(ANIMATION_COORDINATE, coordinateStart, coordinateEnd);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
+    @Override
+    protected boolean canRetarget() {
+        return true;
     }
 
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int coordinate = (int) animation.getAnimatedValue(ANIMATION_COORDINATE);
-        value.setCoordinate(coordinate);
+    @Override
+    protected void savePrevious(boolean isFrozen) {
+        previousCoordinateStart = coordinateStart;
+        previousCoordinateEnd = coordinateEnd;
 
-        if (listener != null) {
-            listener.onValueUpdated(value);
+        if (isFrozen) {
+            previousValue.setCoordinate(value.getCoordinate());
         }
     }
 
+    @Override
+    protected void blendPrevious(float previousProgress, float weight) {
+        if (previousProgress != PROGRESS_NONE) {
+            SlideEvaluator.evaluate(previousValue, previousCoordinateStart, previousCoordinateEnd, previousProgress);
+        }
+
+        value.setCoordinate(Interpolation.evaluateInt(previousValue.getCoordinate(), value.getCoordinate(), weight));
+    }
+
     @SuppressWarnings("RedundantIfStatement")
     private boolean hasChanges(int coordinateStart, int coordinateEnd) {
         if (this.coordinateStart != coordinateStart) {
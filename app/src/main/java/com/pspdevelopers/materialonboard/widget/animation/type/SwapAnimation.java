@@ -1,19 +1,15 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
+import android.animation.Animator;
 
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.SwapAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.SwapEvaluator;
 
 import androidx.annotation.NonNull;
 
-public class SwapAnimation extends BaseAnimation<ValueAnimator> {
+public class SwapAnimation extends BaseAnimation<Animator> {
 
-    private static final String ANIMATION_COORDINATE = "ANIMATION_COORDINATE";
-    private static final String ANIMATION_COORDINATE_REVERSE = "ANIMATION_COORDINATE_REVERSE";
     private static final int COORDINATE_NONE = -1;
 
     private int coordinateStart = COORDINATE_NONE;
@@ -26,30 +22,17 @@ public class SwapAnimation extends BaseAnimation<ValueAnimator> {
         value = new SwapAnimationValue();
     }
 
-    @NonNull
     @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(BaseAnimation.DEFAULT_ANIMATION_TIME);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
+    protected boolean isEvaluated() {
+        return true;
     }
 
     @Override
     public SwapAnimation progress(float progress) {
-        if (animator != null) {
-            long playTime = (long) (progress * animationDuration);
+        SwapEvaluator.evaluate(value, coordinateStart, coordinateEnd, progress);
 
-            if (animator.getValues() != null && animator.getValues().length > 0) {
-                animator.setCurrentPlayTime(playTime);
-            }
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
@@ -57,37 +40,14 @@ public class SwapAnimation extends BaseAnimation<ValueAnimator> {
 
     @NonNull
     public SwapAnimation with(int coordinateStart, int coordinateEnd) {
-        if (animator != null && hasChanges(coordinateStart, coordinateEnd)) {
+        if (hasChanges(coordinateStart, coordinateEnd)) {
             this.coordinateStart = coordinateStart;
             this.coordinateEnd = coordinateEnd;
-
-            PropertyValuesHolder holder = createColorPropertyHolder(ANIMATION_COORDINATE, coordinateStart, coordinateEnd);
-            PropertyValuesHolder holderReverse = createColorPropertyHolder(ANIMATION_COORDINATE_REVERSE, coordinateEnd, coordinateStart);
-            animator.setValues(holder, holderReverse);
         }
 
         return this;
     }
 
-    private PropertyValuesHolder createColorPropertyHolder(String propertyName, int startValue, int endValue) {
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startValue, endValue);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
-    }
-
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int coordinate = (int) animation.getAnimatedValue(ANIMATION_COORDINATE);
-        int coordinateReverse = (int) animation.getAnimatedValue(ANIMATION_COORDINATE_REVERSE);
-
-        value.setCoordinate(coordinate);
-        value.setCoordinateReverse(coordinateReverse);
-
-        if (listener != null) {
-            listener.onValueUpdated(value);
-        }
-    }
-
     @SuppressWarnings("RedundantIfStatement")
     private boolean hasChanges(int coordinateStart, int coordinateEnd) {
         if (this.coordinateStart != coordinateStart) {
@@ -1,16 +1,15 @@
 package com.pspdevelopers.materialonboard.widget.animation.type;
 
 import android.animation.Animator;
-import android.animation.AnimatorSet;
-import android.animation.ValueAnimator;
-import android.view.animation.AccelerateDecelerateInterpolator;
 
 import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.Interpolation;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.WormEvaluator;
 
 import androidx.annotation.NonNull;
 
-public class WormAnimation extends BaseAnimation<AnimatorSet> {
+public class WormAnimation extends BaseAnimation<Animator> {
 
     int coordinateStart;
     int coordinateEnd;
@@ -18,23 +17,17 @@ public class WormAnimation extends BaseAnimation<AnimatorSet> {
     int radius;
     boolean isRightSide;
 
-    int rectLeftEdge;
-    int rectRightEdge;
+    int previousCoordinateStart;
+    int previousCoordinateEnd;
+    boolean previousIsRightSide;
 
     private WormAnimationValue value;
+    private WormAnimationValue previousValue;
 
     public WormAnimation(@NonNull ValueController.UpdateListener listener) {
         super(listener);
         value = new WormAnimationValue();
-    }
-
-    @NonNull
-    @Override
-    public AnimatorSet createAnimator() {
-        AnimatorSet animator = new AnimatorSet();
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-
-        return animator;
+        previousValue = new WormAnimationValue();
     }
 
     @Override
@@ -45,94 +38,60 @@ public class WormAnimation extends BaseAnimation<AnimatorSet> {
 
     public WormAnimation with(int coordinateStart, int coordinateEnd, int radius, boolean isRightSide) {
         if (hasChanges(coordinateStart, coordinateEnd, radius, isRightSide)) {
-            animator = createAnimator();
-
             this.coordinateStart = coordinateStart;
             this.coordinateEnd = coordinateEnd;
 
             this.radius = radius;
             this.isRightSide = isRightSide;
 
-            rectLeftEdge = coordinateStart - radius;
-            rectRightEdge = coordinateStart + radius;
-
-            value.setRectStart(rectLeftEdge);
-            value.setRectEnd(rectRightEdge);
-
-            RectValues rect = createRectValues(isRightSide);
-            long duration = animationDuration / 2;
-
-            ValueAnimator straightAnimator = createWormAnimator(rect.fromX, rect.toX, duration, false, value);
-            ValueAnimator reverseAnimator = createWormAnimator(rect.reverseFromX, rect.reverseToX, duration, true, value);
-            animator.playSequentially(straightAnimator, reverseAnimator);
+            value.setRectStart(coordinateStart - radius);
+            value.setRectEnd(coordinateStart + radius);
         }
         return this;
     }
 
     @Override
-    public WormAnimation progress(float progress) {
-        if (animator == null) {
-            return this;
-        }
-
-        long progressDuration = (long) (progress * animationDuration);
-        for (Animator anim : animator.getChildAnimations()) {
-            ValueAnimator animator = (ValueAnimator) anim;
-            long duration = animator.getDuration();
-            long setDuration = progressDuration;
+    protected boolean isEvaluated() {
+        return true;
+    }
 
-            if (setDuration > duration) {
-                setDuration = duration;
-            }
+    @Override
+    public WormAnimation progress(float progress) {
+        WormEvaluator.evaluate(value, coordinateStart, coordinateEnd, radius, isRightSide, progress);
+        blend(progress);
 
-            animator.setCurrentPlayTime(setDuration);
-            progressDuration -= setDuration;
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
     }
 
-    ValueAnimator createWormAnimator(
-            int fromValue,
-            int toValue,
-            long duration,
-            final boolean isReverse,
-            final WormAnimationValue value) {
-
-        ValueAnimator anim = ValueAnimator.ofInt(fromValue, toValue);
-        anim.setInterpolator(new AccelerateDecelerateInterpolator());
-        anim.setDuration(duration);
-        anim.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(value, animation, isReverse);
-            }
-        });
-
-        return anim;
+    @Override
+    protected boolean canRetarget() {
+        return true;
     }
 
-    private void onAnimateUpdated(@NonNull WormAnimationValue value, @NonNull ValueAnimator animation, final boolean isReverse) {
-        int rectEdge = (int) animation.getAnimatedValue();
-
-        if (isRightSide) {
-            if (!isReverse) {
-                value.setRectEnd(rectEdge);
-            } else {
-                value.setRectStart(rectEdge);
-            }
-
-        } else {
-            if (!isReverse) {
-                value.setRectStart(rectEdge);
-            } else {
-                value.setRectEnd(rectEdge);
-            }
+    @Override
+    protected void savePrevious(boolean isFrozen) {
+        previousCoordinateStart = coordinateStart;
+        previousCoordinateEnd = coordinateEnd;
+        previousIsRightSide = isRightSide;
+
+        if (isFrozen) {
+            previousValue.setRectStart(value.getRectStart());
+            previousValue.setRectEnd(value.getRectEnd());
         }
+    }
 
-        if (listener != null) {
-            listener.onValueUpdated(value);
+    @Override
+    protected void blendPrevious(float previousProgress, float weight) {
+        if (previousProgress != PROGRESS_NONE) {
+            WormEvaluator.evaluate(previousValue, previousCoordinateStart, previousCoordinateEnd, radius, previousIsRightSide, previousProgress);
         }
+
+        value.setRectStart(Interpolation.evaluateInt(previousValue.getRectStart(), value.getRectStart(), weight));
+        value.setRectEnd(Interpolation.evaluateInt(previousValue.getRectEnd(), value.getRectEnd(), weight));
     }
 
     @SuppressWarnings("RedundantIfStatement")
@@ -155,47 +114,4 @@ public class WormAnimation extends BaseAnimation<AnimatorSet> {
 
         return false;
     }
-
-    @NonNull
-    RectValues createRectValues(boolean isRightSide) {
-        int fromX;
-        int toX;
-
-        int reverseFromX;
-        int reverseToX;
-
-        if (isRightSide) {
-            fromX = coordinateStart + radius;
-            toX = coordinateEnd + radius;
-
-            reverseFromX = coordinateStart - radius;
-            reverseToX = coordinateEnd - radius;
-
-        } else {
-            fromX = coordinateStart - radius;
-            toX = coordinateEnd - radius;
-
-            reverseFromX = coordinateStart + radius;
-            reverseToX = coordinateEnd + radius;
-        }
-
-        return new RectValues(fromX, toX, reverseFromX, reverseToX);
-    }
-
-    class RectValues {
-
-        final int fromX;
-        final int toX;
-
-        final int reverseFromX;
-        final int reverseToX;
-
-        RectValues(int fromX, int toX, int reverseFromX, int reverseToX) {
-            this.fromX = fromX;
-            this.toX = toX;
-
-            this.reverseFromX = reverseFromX;
-            this.reverseToX = reverseToX;
-        }
-    }
 }
@@ -2,8 +2,8 @@ package com.pspdevelopers.materialonboard.widget.draw;
 
 import android.content.Context;
 import android.graphics.Canvas;
+import android.graphics.Rect;
 import android.util.AttributeSet;
-import android.util.Pair;
 import android.view.MotionEvent;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
@@ -11,6 +11,8 @@ import com.pspdevelopers.materialonboard.widget.draw.controller.AttributeControl
 import com.pspdevelopers.materialonboard.widget.draw.controller.DrawController;
 import com.pspdevelopers.materialonboard.widget.draw.controller.MeasureController;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.IndicatorSnapshot;
+import com.pspdevelopers.materialonboard.widget.draw.data.SnapshotBuffer;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -21,12 +23,14 @@ public class DrawManager {
     private DrawController drawController;
     private MeasureController measureController;
     private AttributeController attributeController;
+    private SnapshotBuffer snapshotBuffer;
 
     public DrawManager() {
         this.indicator = new Indicator();
         this.drawController = new DrawController(indicator);
         this.measureController = new MeasureController();
         this.attributeController = new AttributeController(indicator);
+        this.snapshotBuffer = new SnapshotBuffer();
     }
 
     @NonNull
@@ -50,11 +54,52 @@ public class DrawManager {
         drawController.updateValue(value);
     }
 
+    public boolean getDirtyBounds(@NonNull Rect dirtyBounds) {
+        return drawController.getDirtyBounds(dirtyBounds);
+    }
+
+    public void releaseStaticLayer() {
+        drawController.releaseStaticLayer();
+    }
+
+    /**
+     * Publish snapshot of current indicator state and draw it.
+     * Must be called from the thread which owns indicator, usually the main thread.
+     */
     public void draw(@NonNull Canvas canvas) {
-        drawController.draw(canvas);
+        drawController.draw(canvas, publishSnapshot());
+    }
+
+    /**
+     * Draw given snapshot, which can be done from any thread holding it.
+     */
+    public void draw(@NonNull Canvas canvas, @NonNull IndicatorSnapshot snapshot) {
+        drawController.draw(canvas, snapshot);
+    }
+
+    /**
+     * Capture current indicator state and animation value as the latest snapshot.
+     * Must be called from the thread which owns indicator, once per frame.
+     */
+    @NonNull
+    public IndicatorSnapshot publishSnapshot() {
+        return snapshotBuffer.publish(indicator, drawController.getValue());
+    }
+
+    /**
+     * Acquire the latest published snapshot from any thread.
+     * Snapshot stays unchanged until it is passed to {@link #releaseSnapshot(IndicatorSnapshot)}.
+     */
+    @Nullable
+    public IndicatorSnapshot acquireSnapshot() {
+        return snapshotBuffer.acquire();
+    }
+
+    public void releaseSnapshot(@Nullable IndicatorSnapshot snapshot) {
+        snapshotBuffer.release(snapshot);
     }
 
-    public Pair<Integer, Integer> measureViewSize(int widthMeasureSpec, int heightMeasureSpec) {
+    public long measureViewSize(int widthMeasureSpec, int heightMeasureSpec) {
         return measureController.measureViewSize(indicator, widthMeasureSpec, heightMeasureSpec);
     }
 
@@ -7,6 +7,8 @@ import android.util.AttributeSet;
 import android.view.View;
 
 import com.pspdevelopers.materialonboard.R;
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.ColorPalette;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationTiming;
 import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
 import com.pspdevelopers.materialonboard.widget.animation.type.BaseAnimation;
 import com.pspdevelopers.materialonboard.widget.animation.type.ColorAnimation;
@@ -14,6 +16,7 @@ import com.pspdevelopers.materialonboard.widget.animation.type.FillAnimation;
 import com.pspdevelopers.materialonboard.widget.animation.type.ScaleAnimation;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
+import com.pspdevelopers.materialonboard.widget.draw.data.RenderMode;
 import com.pspdevelopers.materialonboard.widget.utils.DensityUtils;
 
 import androidx.annotation.NonNull;
@@ -42,11 +45,16 @@ public class AttributeController {
         boolean autoVisibility = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_autoVisibility, true);
         boolean dynamicCount = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_dynamicCount, false);
         int count = typedArray.getInt(R.styleable.PageIndicatorView_indicator_count, Indicator.COUNT_NONE);
+        int maxVisibleCount = typedArray.getInt(R.styleable.PageIndicatorView_indicator_maxVisibleCount, Indicator.MAX_VISIBLE_COUNT_ALL);
 
         if (count == Indicator.COUNT_NONE) {
             count = Indicator.DEFAULT_COUNT;
         }
 
+        if (maxVisibleCount < 0) {
+            maxVisibleCount = Indicator.MAX_VISIBLE_COUNT_ALL;
+        }
+
         int position = typedArray.getInt(R.styleable.PageIndicatorView_indicator_select, 0);
         if (position < 0) {
             position = 0;
@@ -58,6 +66,7 @@ public class AttributeController {
         indicator.setAutoVisibility(autoVisibility);
         indicator.setDynamicCount(dynamicCount);
         indicator.setCount(count);
+        indicator.setMaxVisibleCount(maxVisibleCount);
 
         indicator.setSelectedPosition(position);
         indicator.setSelectingPosition(position);
@@ -68,12 +77,20 @@ public class AttributeController {
         int unselectedColor = typedArray.getColor(R.styleable.PageIndicatorView_indicator_unselectedColor, Color.parseColor(ColorAnimation.DEFAULT_UNSELECTED_COLOR));
         int selectedColor = typedArray.getColor(R.styleable.PageIndicatorView_indicator_selectedColor, Color.parseColor(ColorAnimation.DEFAULT_SELECTED_COLOR));
 
+        int colorResolution = typedArray.getInt(R.styleable.PageIndicatorView_indicator_colorResolution, ColorPalette.DEFAULT_RESOLUTION);
+        if (colorResolution < ColorPalette.MIN_RESOLUTION) {
+            colorResolution = ColorPalette.MIN_RESOLUTION;
+        }
+
         indicator.setUnselectedColor(unselectedColor);
         indicator.setSelectedColor(selectedColor);
+        indicator.setColorResolution(colorResolution);
     }
 
     private void initAnimationAttribute(@NonNull TypedArray typedArray) {
         boolean interactiveAnimation = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_interactiveAnimation, false);
+        boolean adaptiveQuality = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_adaptiveQuality, false);
+        boolean scrollThrottled = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_scrollThrottled, false);
         long animationDuration = (long) typedArray.getInt(R.styleable.PageIndicatorView_indicator_animationDuration, BaseAnimation.DEFAULT_ANIMATION_TIME);
         if (animationDuration < 0) {
             animationDuration = 0;
@@ -82,6 +99,11 @@ public class AttributeController {
         int animIndex = typedArray.getInt(R.styleable.PageIndicatorView_indicator_animationType, AnimationType.NONE.ordinal());
         AnimationType animationType = getAnimationType(animIndex);
 
+        int timingIndex = typedArray.getInt(R.styleable.PageIndicatorView_indicator_animationTiming, AnimationTiming.DURATION.ordinal());
+        AnimationTiming animationTiming = timingIndex == 1 ? AnimationTiming.SPRING : AnimationTiming.DURATION;
+
+        int renderModeIndex = typedArray.getInt(R.styleable.PageIndicatorView_indicator_renderMode, RenderMode.DIRECT.ordinal());
+        RenderMode renderMode = renderModeIndex == 1 ? RenderMode.CACHED : RenderMode.DIRECT;
 
         boolean fadeOnIdle = typedArray.getBoolean(R.styleable.PageIndicatorView_indicator_fadeOnIdle, false);
         long idleDuration = (long) typedArray.getInt(R.styleable.PageIndicatorView_indicator_idleDuration, DEFAULT_IDLE_DURATION);
@@ -89,6 +111,10 @@ public class AttributeController {
         indicator.setAnimationDuration(animationDuration);
         indicator.setInteractiveAnimation(interactiveAnimation);
         indicator.setAnimationType(animationType);
+        indicator.setAnimationTiming(animationTiming);
+        indicator.setAdaptiveQuality(adaptiveQuality);
+        indicator.setScrollThrottled(scrollThrottled);
+        indicator.setRenderMode(renderMode);
         indicator.setFadeOnIdle(fadeOnIdle);
         indicator.setIdleDuration(idleDuration);
     }
@@ -145,6 +171,16 @@ public class AttributeController {
                 return AnimationType.THIN_LINE;
             case 4:
                 return AnimationType.SWAP;
+            case 5:
+                return AnimationType.SCALE;
+            case 6:
+                return AnimationType.FILL;
+            case 7:
+                return AnimationType.SLIDE;
+            case 8:
+                return AnimationType.DROP;
+            case 9:
+                return AnimationType.SCALE_DOWN;
         }
 
         return AnimationType.NONE;
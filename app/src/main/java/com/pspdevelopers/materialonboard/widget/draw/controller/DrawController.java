@@ -1,11 +1,16 @@
 package com.pspdevelopers.materialonboard.widget.draw.controller;
 
 import android.graphics.Canvas;
+import android.graphics.Rect;
 import android.view.MotionEvent;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.animation.type.ScaleDownAnimation;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.IndicatorSnapshot;
+import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
+import com.pspdevelopers.materialonboard.widget.draw.data.RenderMode;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.Drawer;
 import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
 
@@ -15,19 +20,78 @@ import androidx.annotation.Nullable;
 public class DrawController {
 
     private Value value;
+    private IndicatorSnapshot snapshot;
     private Drawer drawer;
+    private StaticLayerController staticLayer;
     private Indicator indicator;
     private ClickListener listener;
 
+    private Rect frameBounds = new Rect();
+    private Rect lastFrameBounds = new Rect();
+
     public DrawController(@NonNull Indicator indicator) {
         this.indicator = indicator;
-        this.drawer = new Drawer(indicator);
+        this.drawer = new Drawer();
+        this.staticLayer = new StaticLayerController();
     }
 
     public void updateValue(@Nullable Value value) {
         this.value = value;
     }
 
+    @Nullable
+    public Value getValue() {
+        return value;
+    }
+
+    /**
+     * Fill bounds of the area changed by current animation value, merged with area of the previous frame,
+     * so both old and new state get redrawn.
+     *
+     * @return false if there is no animation value and the whole view should be redrawn.
+     */
+    public boolean getDirtyBounds(@NonNull Rect dirtyBounds) {
+        if (value == null || indicator.isWindowed()) {
+            lastFrameBounds.setEmpty();
+            return false;
+        }
+
+        boolean interactiveAnimation = indicator.isInteractiveAnimation();
+        int fromPosition = interactiveAnimation ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int toPosition = interactiveAnimation ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int count = indicator.getCount();
+        if (fromPosition < 0 || fromPosition >= count || toPosition < 0 || toPosition >= count) {
+            lastFrameBounds.setEmpty();
+            return false;
+        }
+
+        int from = CoordinatesUtils.getCoordinate(indicator, fromPosition);
+        int to = CoordinatesUtils.getCoordinate(indicator, toPosition);
+        int extent = indicator.getRadius() * 2 + indicator.getStroke();
+
+        int start = Math.min(from, to) - extent;
+        int end = Math.max(from, to) + extent;
+
+        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+            frameBounds.set(start, 0, end, indicator.getHeight());
+        } else {
+            frameBounds.set(0, start, indicator.getWidth(), end);
+        }
+
+        dirtyBounds.set(frameBounds);
+        if (!lastFrameBounds.isEmpty()) {
+            dirtyBounds.union(lastFrameBounds);
+        }
+
+        lastFrameBounds.set(frameBounds);
+        return true;
+    }
+
+    public void releaseStaticLayer() {
+        staticLayer.release();
+    }
+
     public void setClickListener(@Nullable ClickListener listener) {
         this.listener = listener;
     }
@@ -54,13 +118,131 @@ public class DrawController {
         }
     }
 
-    public void draw(@NonNull Canvas canvas) {
-        int count = indicator.getCount();
+    /**
+     * Draw indicator from given snapshot. Reads nothing else of indicator state,
+     * so it can run on any thread which holds the snapshot.
+     */
+    public void draw(@NonNull Canvas canvas, @NonNull IndicatorSnapshot snapshot) {
+        this.snapshot = snapshot;
+        drawer.setSnapshot(snapshot);
+
+        int[] coordinatesX = snapshot.getCoordinatesX();
+        int[] coordinatesY = snapshot.getCoordinatesY();
+
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
 
-        for (int position = 0; position < count; position++) {
-            int coordinateX = CoordinatesUtils.getXCoordinate(indicator, position);
-            int coordinateY = CoordinatesUtils.getYCoordinate(indicator, position);
-            drawIndicator(canvas, position, coordinateX, coordinateY);
+        if (snapshot.isWindowed()) {
+            drawWindowed(canvas, coordinatesX, coordinatesY);
+            return;
+        }
+
+        if (snapshot.getRenderMode() == RenderMode.CACHED && staticLayer.isSupported(canvas)) {
+            drawCached(canvas, coordinatesX, coordinatesY);
+        } else {
+            drawer.drawUnselected(canvas, coordinatesX, coordinatesY, selectedPosition, selectingPosition, lastSelectedPosition);
+        }
+
+        drawAnimatedIndicator(canvas, selectedPosition, coordinatesX, coordinatesY);
+
+        if (selectingPosition != selectedPosition) {
+            drawAnimatedIndicator(canvas, selectingPosition, coordinatesX, coordinatesY);
+        }
+
+        if (lastSelectedPosition != selectedPosition && lastSelectedPosition != selectingPosition) {
+            drawAnimatedIndicator(canvas, lastSelectedPosition, coordinatesX, coordinatesY);
+        }
+    }
+
+    private void drawCached(@NonNull Canvas canvas, @NonNull int[] coordinatesX, @NonNull int[] coordinatesY) {
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
+
+        if (!staticLayer.isValid(canvas, snapshot, selectedPosition, selectingPosition, lastSelectedPosition)) {
+            Canvas layerCanvas = staticLayer.beginRecording(canvas, snapshot, selectedPosition, selectingPosition, lastSelectedPosition);
+            if (layerCanvas == null) {
+                drawer.drawUnselected(canvas, coordinatesX, coordinatesY, selectedPosition, selectingPosition, lastSelectedPosition);
+                return;
+            }
+
+            drawer.drawUnselected(layerCanvas, coordinatesX, coordinatesY, selectedPosition, selectingPosition, lastSelectedPosition);
+            staticLayer.endRecording();
+        }
+
+        staticLayer.draw(canvas);
+    }
+
+    private void drawWindowed(@NonNull Canvas canvas, @NonNull int[] coordinatesX, @NonNull int[] coordinatesY) {
+        int count = coordinatesX.length;
+        int visibleCount = snapshot.getVisibleCount();
+        float windowOffset = snapshot.getWindowOffset();
+        float shift = windowOffset * snapshot.getStep();
+
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
+
+        int firstPosition = Math.max(0, (int) Math.floor(windowOffset));
+        int lastPosition = Math.min(count - 1, (int) Math.ceil(windowOffset) + visibleCount - 1);
+
+        float startWeight = Math.min(1, Math.max(0, windowOffset));
+        float endWeight = Math.min(1, Math.max(0, count - visibleCount - windowOffset));
+
+        int saveCount = canvas.save();
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
+            canvas.translate(-shift, 0);
+        } else {
+            canvas.translate(0, -shift);
+        }
+
+        for (int position = firstPosition; position <= lastPosition; position++) {
+            if (!isStaticPosition(position, selectedPosition, selectingPosition, lastSelectedPosition)) {
+                drawIndicator(canvas, position, coordinatesX[position], coordinatesY[position]);
+                continue;
+            }
+
+            float slot = position - windowOffset;
+            float startScale = getEdgeScale(slot);
+            float endScale = getEdgeScale(visibleCount - 1 - slot);
+            float scale = Math.min(1 - startWeight * (1 - startScale), 1 - endWeight * (1 - endScale));
+
+            if (scale > 0) {
+                drawer.setup(position, coordinatesX[position], coordinatesY[position]);
+                drawer.drawBasic(canvas, snapshot.getRadius() * scale);
+            }
+        }
+
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Return scale of circle indicator which is given number of slots away from window edge.
+     * Circles in the edge slot are scaled down the same way as {@link ScaleDownAnimation} does,
+     * circles moving out of window shrink further until they disappear.
+     */
+    private float getEdgeScale(float slot) {
+        int radius = snapshot.getRadius();
+        if (radius <= 0 || slot >= 1) {
+            return 1;
+        }
+
+        float edgeScale = ScaleDownAnimation.getScaledRadius(radius, snapshot.getScaleFactor(), 1) / radius;
+        if (slot >= 0) {
+            return edgeScale + (1 - edgeScale) * slot;
+        }
+
+        return Math.max(0, edgeScale * (1 + slot));
+    }
+
+    private boolean isStaticPosition(int position, int selectedPosition, int selectingPosition, int lastSelectedPosition) {
+        return position != selectedPosition && position != selectingPosition && position != lastSelectedPosition;
+    }
+
+    private void drawAnimatedIndicator(@NonNull Canvas canvas, int position, @NonNull int[] coordinatesX, @NonNull int[] coordinatesY) {
+        if (position >= 0 && position < coordinatesX.length) {
+            drawIndicator(canvas, position, coordinatesX[position], coordinatesY[position]);
         }
     }
 
@@ -70,25 +252,26 @@ public class DrawController {
             int coordinateX,
             int coordinateY) {
 
-        boolean interactiveAnimation = indicator.isInteractiveAnimation();
-        int selectedPosition = indicator.getSelectedPosition();
-        int selectingPosition = indicator.getSelectingPosition();
-        int lastSelectedPosition = indicator.getLastSelectedPosition();
+        boolean interactiveAnimation = snapshot.isInteractiveAnimation();
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
 
         boolean selectedItem = !interactiveAnimation && (position == selectedPosition || position == lastSelectedPosition);
         boolean selectingItem = interactiveAnimation && (position == selectedPosition || position == selectingPosition);
         boolean isSelectedItem = selectedItem | selectingItem;
         drawer.setup(position, coordinateX, coordinateY);
 
+        Value value = snapshot.getValue();
         if (value != null && isSelectedItem) {
-            drawWithAnimation(canvas);
+            drawWithAnimation(canvas, value);
         } else {
             drawer.drawBasic(canvas);
         }
     }
 
-    private void drawWithAnimation(@NonNull Canvas canvas) {
-        AnimationType animationType = indicator.getAnimationType();
+    private void drawWithAnimation(@NonNull Canvas canvas, @NonNull Value value) {
+        AnimationType animationType = snapshot.getAnimationType();
         switch (animationType) {
             case NONE:
                 drawer.drawBasic(canvas);
@@ -109,6 +292,23 @@ public class DrawController {
             case SWAP:
                 drawer.drawSwap(canvas, value);
                 break;
+
+            case SCALE:
+            case SCALE_DOWN:
+                drawer.drawScale(canvas, value);
+                break;
+
+            case FILL:
+                drawer.drawFill(canvas, value);
+                break;
+
+            case SLIDE:
+                drawer.drawSlide(canvas, value);
+                break;
+
+            case DROP:
+                drawer.drawDrop(canvas, value);
+                break;
         }
     }
 
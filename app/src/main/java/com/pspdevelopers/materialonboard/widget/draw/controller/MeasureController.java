@@ -1,8 +1,8 @@
 package com.pspdevelopers.materialonboard.widget.draw.controller;
 
-import android.util.Pair;
 import android.view.View;
 
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
 
@@ -10,14 +10,56 @@ import androidx.annotation.NonNull;
 
 public class MeasureController {
 
-    public Pair<Integer, Integer> measureViewSize(@NonNull Indicator indicator, int widthMeasureSpec, int heightMeasureSpec) {
+    private boolean hasCachedSize;
+    private int cachedWidthMeasureSpec;
+    private int cachedHeightMeasureSpec;
+    private int cachedGeometryVersion;
+    private long cachedSize;
+
+    /**
+     * Return measured view size packed into a single long, see {@link #getWidth(long)} and {@link #getHeight(long)}.
+     * Result is cached and reused while measure specs and {@link Indicator#getGeometryVersion()} stay the same.
+     */
+    public long measureViewSize(@NonNull Indicator indicator, int widthMeasureSpec, int heightMeasureSpec) {
+        int geometryVersion = indicator.getGeometryVersion();
+        boolean isCached = hasCachedSize
+                && cachedWidthMeasureSpec == widthMeasureSpec
+                && cachedHeightMeasureSpec == heightMeasureSpec
+                && cachedGeometryVersion == geometryVersion;
+
+        if (!isCached) {
+            cachedSize = computeViewSize(indicator, widthMeasureSpec, heightMeasureSpec);
+            cachedWidthMeasureSpec = widthMeasureSpec;
+            cachedHeightMeasureSpec = heightMeasureSpec;
+            cachedGeometryVersion = geometryVersion;
+            hasCachedSize = true;
+        }
+
+        indicator.setWidth(getWidth(cachedSize));
+        indicator.setHeight(getHeight(cachedSize));
+        return cachedSize;
+    }
+
+    public static int getWidth(long size) {
+        return (int) (size >>> 32);
+    }
+
+    public static int getHeight(long size) {
+        return (int) size;
+    }
+
+    private static long packSize(int width, int height) {
+        return ((long) width << 32) | (height & 0xFFFFFFFFL);
+    }
+
+    private long computeViewSize(@NonNull Indicator indicator, int widthMeasureSpec, int heightMeasureSpec) {
         int widthMode = View.MeasureSpec.getMode(widthMeasureSpec);
         int widthSize = View.MeasureSpec.getSize(widthMeasureSpec);
 
         int heightMode = View.MeasureSpec.getMode(heightMeasureSpec);
         int heightSize = View.MeasureSpec.getSize(heightMeasureSpec);
 
-        int count = indicator.getCount();
+        int count = indicator.getVisibleCount();
         int radius = indicator.getRadius();
         int stroke = indicator.getStroke();
 
@@ -53,6 +95,14 @@ public class MeasureController {
             }
         }
 
+        if (indicator.getAnimationType() == AnimationType.DROP) {
+            if (orientation == Orientation.HORIZONTAL) {
+                desiredHeight *= 2;
+            } else {
+                desiredWidth *= 2;
+            }
+        }
+
         int horizontalPadding = paddingLeft + paddingRight;
         int verticalPadding = paddingTop + paddingBottom;
 
@@ -89,9 +139,6 @@ public class MeasureController {
             height = 0;
         }
 
-        indicator.setWidth(width);
-        indicator.setHeight(height);
-
-        return new Pair<>(width, height);
+        return packSize(width, height);
     }
 }
@@ -0,0 +1,158 @@
+package com.pspdevelopers.materialonboard.widget.draw.controller;
+
+import android.annotation.TargetApi;
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.graphics.RenderNode;
+import android.os.Build;
+
+import com.pspdevelopers.materialonboard.widget.draw.data.IndicatorSnapshot;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps a recorded layer of circle indicators which don't change between frames,
+ * so each frame only replays the recording instead of drawing every circle again.
+ * Layer is recorded again only after geometry, colors or excluded positions change.
+ * On API 29+ hardware accelerated canvas layer is kept in a {@link RenderNode} display list,
+ * otherwise in a {@link Picture}.
+ */
+public class StaticLayerController {
+
+    private static final int VERSION_NONE = -1;
+    private static final String RENDER_NODE_NAME = "PageIndicatorView";
+
+    private Picture picture;
+    private RenderNode renderNode;
+    private boolean isRenderNodeLayer;
+    private boolean isRecording;
+
+    private int geometryVersion = VERSION_NONE;
+    private int colorVersion = VERSION_NONE;
+    private int width;
+    private int height;
+
+    private int firstExcludedPosition;
+    private int secondExcludedPosition;
+    private int thirdExcludedPosition;
+
+    public boolean isSupported(@NonNull Canvas canvas) {
+        return !canvas.isHardwareAccelerated() || Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+    }
+
+    public boolean isValid(@NonNull Canvas canvas, @NonNull IndicatorSnapshot snapshot, int first, int second, int third) {
+        return hasRecording()
+                && isRenderNodeLayer == isRenderNodeSupported(canvas)
+                && geometryVersion == snapshot.getGeometryVersion()
+                && colorVersion == snapshot.getColorVersion()
+                && width == snapshot.getWidth()
+                && height == snapshot.getHeight()
+                && firstExcludedPosition == first
+                && secondExcludedPosition == second
+                && thirdExcludedPosition == third;
+    }
+
+    /**
+     * Start recording new layer to be drawn on given canvas.
+     * Return null if view is not measured yet and layer can't be recorded.
+     */
+    @Nullable
+    public Canvas beginRecording(@NonNull Canvas canvas, @NonNull IndicatorSnapshot snapshot, int first, int second, int third) {
+        width = snapshot.getWidth();
+        height = snapshot.getHeight();
+
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        geometryVersion = snapshot.getGeometryVersion();
+        colorVersion = snapshot.getColorVersion();
+        firstExcludedPosition = first;
+        secondExcludedPosition = second;
+        thirdExcludedPosition = third;
+
+        isRecording = true;
+        isRenderNodeLayer = isRenderNodeSupported(canvas);
+
+        if (isRenderNodeLayer) {
+            return beginRenderNodeRecording();
+        }
+
+        if (picture == null) {
+            picture = new Picture();
+        }
+        return picture.beginRecording(width, height);
+    }
+
+    public void endRecording() {
+        if (!isRecording) {
+            return;
+        }
+
+        if (isRenderNodeLayer) {
+            endRenderNodeRecording();
+        } else {
+            picture.endRecording();
+        }
+        isRecording = false;
+    }
+
+    public void draw(@NonNull Canvas canvas) {
+        if (isRecording || !hasRecording()) {
+            return;
+        }
+
+        if (isRenderNodeLayer) {
+            drawRenderNode(canvas);
+        } else {
+            canvas.drawPicture(picture);
+        }
+    }
+
+    public void release() {
+        if (renderNode != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            discardRenderNode();
+        }
+
+        picture = null;
+        geometryVersion = VERSION_NONE;
+        colorVersion = VERSION_NONE;
+    }
+
+    private boolean hasRecording() {
+        return isRenderNodeLayer ? renderNode != null : picture != null;
+    }
+
+    private boolean isRenderNodeSupported(@NonNull Canvas canvas) {
+        return canvas.isHardwareAccelerated() && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private Canvas beginRenderNodeRecording() {
+        if (renderNode == null) {
+            renderNode = new RenderNode(RENDER_NODE_NAME);
+        }
+
+        renderNode.setPosition(0, 0, width, height);
+        return renderNode.beginRecording(width, height);
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private void endRenderNodeRecording() {
+        renderNode.endRecording();
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private void drawRenderNode(@NonNull Canvas canvas) {
+        if (renderNode.hasDisplayList()) {
+            canvas.drawRenderNode(renderNode);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private void discardRenderNode() {
+        renderNode.discardDisplayList();
+        renderNode = null;
+    }
+}
@@ -2,7 +2,10 @@ package com.pspdevelopers.materialonboard.widget.draw.data;
 
 import android.view.View;
 
+import com.pspdevelopers.materialonboard.widget.animation.evaluator.ColorPalette;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationTiming;
 import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
 
 import androidx.annotation.NonNull;
 
@@ -15,6 +18,12 @@ public class Indicator {
     public static final int DEFAULT_RADIUS_DP = 6;
     public static final int DEFAULT_PADDING_DP = 8;
     public static final int IDLE_ANIMATION_DURATION = 250;
+    public static final int TOUCH_SLOP_SLOT = -1;
+    public static final int MAX_VISIBLE_COUNT_ALL = 0;
+
+    public static final int DIRTY_NONE = 0;
+    public static final int DIRTY_COLOR = 1;
+    public static final int DIRTY_GEOMETRY = 1 << 1;
 
     private int height;
     private int width;
@@ -27,10 +36,12 @@ public class Indicator {
     private int paddingBottom;
 
     private int stroke; //For "Fill" animation only
+    private int touchSlop = TOUCH_SLOP_SLOT;
     private float scaleFactor; //For "Scale" animation only
 
     private int unselectedColor;
     private int selectedColor;
+    private int colorResolution = ColorPalette.DEFAULT_RESOLUTION;
 
     private boolean interactiveAnimation;
     private boolean autoVisibility;
@@ -42,6 +53,8 @@ public class Indicator {
 
     private long animationDuration;
     private int count = DEFAULT_COUNT;
+    private int maxVisibleCount = MAX_VISIBLE_COUNT_ALL;
+    private float windowOffset;
 
     private int selectedPosition;
     private int selectingPosition;
@@ -51,6 +64,19 @@ public class Indicator {
 
     private Orientation orientation;
     private AnimationType animationType;
+    private AnimationType effectiveAnimationType;
+    private AnimationTiming animationTiming;
+    private boolean adaptiveQuality;
+    private boolean scrollThrottled;
+    private float scrollVelocity;
+    private RenderMode renderMode;
+
+    private int dirtyFlags;
+    private int geometryVersion;
+    private int colorVersion;
+    private int coordinatesVersion = -1;
+    private int[] coordinatesX = new int[0];
+    private int[] coordinatesY = new int[0];
 
     public int getHeight() {
         return height;
@@ -73,7 +99,10 @@ public class Indicator {
     }
 
     public void setRadius(int radius) {
-        this.radius = radius;
+        if (this.radius != radius) {
+            this.radius = radius;
+            invalidateGeometry();
+        }
     }
 
     public int getPadding() {
@@ -81,7 +110,10 @@ public class Indicator {
     }
 
     public void setPadding(int padding) {
-        this.padding = padding;
+        if (this.padding != padding) {
+            this.padding = padding;
+            invalidateGeometry();
+        }
     }
 
     public int getPaddingLeft() {
@@ -89,7 +121,10 @@ public class Indicator {
     }
 
     public void setPaddingLeft(int paddingLeft) {
-        this.paddingLeft = paddingLeft;
+        if (this.paddingLeft != paddingLeft) {
+            this.paddingLeft = paddingLeft;
+            invalidateGeometry();
+        }
     }
 
     public int getPaddingTop() {
@@ -97,7 +132,10 @@ public class Indicator {
     }
 
     public void setPaddingTop(int paddingTop) {
-        this.paddingTop = paddingTop;
+        if (this.paddingTop != paddingTop) {
+            this.paddingTop = paddingTop;
+            invalidateGeometry();
+        }
     }
 
     public int getPaddingRight() {
@@ -105,7 +143,10 @@ public class Indicator {
     }
 
     public void setPaddingRight(int paddingRight) {
-        this.paddingRight = paddingRight;
+        if (this.paddingRight != paddingRight) {
+            this.paddingRight = paddingRight;
+            invalidateGeometry();
+        }
     }
 
     public int getPaddingBottom() {
@@ -113,7 +154,10 @@ public class Indicator {
     }
 
     public void setPaddingBottom(int paddingBottom) {
-        this.paddingBottom = paddingBottom;
+        if (this.paddingBottom != paddingBottom) {
+            this.paddingBottom = paddingBottom;
+            invalidateGeometry();
+        }
     }
 
     public int getStroke() {
@@ -121,7 +165,18 @@ public class Indicator {
     }
 
     public void setStroke(int stroke) {
-        this.stroke = stroke;
+        if (this.stroke != stroke) {
+            this.stroke = stroke;
+            invalidateGeometry();
+        }
+    }
+
+    public int getTouchSlop() {
+        return touchSlop;
+    }
+
+    public void setTouchSlop(int touchSlop) {
+        this.touchSlop = touchSlop;
     }
 
     public float getScaleFactor() {
@@ -137,7 +192,10 @@ public class Indicator {
     }
 
     public void setUnselectedColor(int unselectedColor) {
-        this.unselectedColor = unselectedColor;
+        if (this.unselectedColor != unselectedColor) {
+            this.unselectedColor = unselectedColor;
+            invalidateColor();
+        }
     }
 
     public int getSelectedColor() {
@@ -145,7 +203,18 @@ public class Indicator {
     }
 
     public void setSelectedColor(int selectedColor) {
-        this.selectedColor = selectedColor;
+        if (this.selectedColor != selectedColor) {
+            this.selectedColor = selectedColor;
+            invalidateColor();
+        }
+    }
+
+    public int getColorResolution() {
+        return colorResolution;
+    }
+
+    public void setColorResolution(int colorResolution) {
+        this.colorResolution = colorResolution;
     }
 
     public boolean isInteractiveAnimation() {
@@ -209,7 +278,46 @@ public class Indicator {
     }
 
     public void setCount(int count) {
-        this.count = count;
+        if (this.count != count) {
+            this.count = count;
+            invalidateGeometry();
+        }
+    }
+
+    public int getMaxVisibleCount() {
+        return maxVisibleCount;
+    }
+
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        if (this.maxVisibleCount != maxVisibleCount) {
+            this.maxVisibleCount = maxVisibleCount;
+            invalidateGeometry();
+        }
+    }
+
+    /**
+     * Return true if only a window of {@link #getMaxVisibleCount()} circle indicators is displayed.
+     */
+    public boolean isWindowed() {
+        return maxVisibleCount > MAX_VISIBLE_COUNT_ALL && count > maxVisibleCount;
+    }
+
+    /**
+     * Return number of circle indicators which fit into view.
+     */
+    public int getVisibleCount() {
+        return isWindowed() ? maxVisibleCount : count;
+    }
+
+    /**
+     * Return position of the first circle indicator in window, may be fractional while window moves.
+     */
+    public float getWindowOffset() {
+        return windowOffset;
+    }
+
+    public void setWindowOffset(float windowOffset) {
+        this.windowOffset = windowOffset;
     }
 
     public int getSelectedPosition() {
@@ -253,7 +361,10 @@ public class Indicator {
     }
 
     public void setOrientation(Orientation orientation) {
-        this.orientation = orientation;
+        if (this.orientation != orientation) {
+            this.orientation = orientation;
+            invalidateGeometry();
+        }
     }
 
     @NonNull
@@ -265,6 +376,153 @@ public class Indicator {
     }
 
     public void setAnimationType(AnimationType animationType) {
+        boolean wasDrop = this.animationType == AnimationType.DROP;
         this.animationType = animationType;
+        this.effectiveAnimationType = null;
+
+        if (wasDrop != (animationType == AnimationType.DROP)) {
+            invalidateGeometry();
+        }
+    }
+
+    /**
+     * Return animation type which is actually running, which may be lower than requested one
+     * when adaptive quality is enabled.
+     */
+    @NonNull
+    public AnimationType getEffectiveAnimationType() {
+        if (effectiveAnimationType == null) {
+            return getAnimationType();
+        }
+        return effectiveAnimationType;
+    }
+
+    public void setEffectiveAnimationType(AnimationType effectiveAnimationType) {
+        this.effectiveAnimationType = effectiveAnimationType;
+    }
+
+    public boolean isScrollThrottled() {
+        return scrollThrottled;
+    }
+
+    public void setScrollThrottled(boolean scrollThrottled) {
+        this.scrollThrottled = scrollThrottled;
+    }
+
+    public boolean isAdaptiveQuality() {
+        return adaptiveQuality;
+    }
+
+    public void setAdaptiveQuality(boolean adaptiveQuality) {
+        this.adaptiveQuality = adaptiveQuality;
+    }
+
+    @NonNull
+    public AnimationTiming getAnimationTiming() {
+        if (animationTiming == null) {
+            animationTiming = AnimationTiming.DURATION;
+        }
+        return animationTiming;
+    }
+
+    public void setAnimationTiming(AnimationTiming animationTiming) {
+        this.animationTiming = animationTiming;
+    }
+
+    /**
+     * Return speed of the last pager scroll in pages per second, used as start velocity of spring timing.
+     */
+    public float getScrollVelocity() {
+        return scrollVelocity;
+    }
+
+    public void setScrollVelocity(float scrollVelocity) {
+        this.scrollVelocity = scrollVelocity;
+    }
+
+    @NonNull
+    public RenderMode getRenderMode() {
+        if (renderMode == null) {
+            renderMode = RenderMode.DIRECT;
+        }
+        return renderMode;
+    }
+
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    /**
+     * Return changes made since last call as combination of {@link #DIRTY_COLOR} and {@link #DIRTY_GEOMETRY}
+     * and reset them. Setters mark a change only when the new value differs from the current one.
+     */
+    public int consumeDirtyFlags() {
+        int flags = dirtyFlags;
+        dirtyFlags = DIRTY_NONE;
+        return flags;
+    }
+
+    /**
+     * Return version of indicator geometry, incremented every time count, radius, stroke,
+     * padding or orientation changes. Used to cache values derived from geometry.
+     */
+    public int getGeometryVersion() {
+        return geometryVersion;
+    }
+
+    /**
+     * Return version of indicator colors, incremented every time selected or unselected color changes.
+     */
+    public int getColorVersion() {
+        return colorVersion;
+    }
+
+    /**
+     * Return x coordinates of every circle indicator, indexed by position.
+     * Table is rebuilt only after count, radius, stroke, padding or orientation changes.
+     */
+    @NonNull
+    public int[] getCoordinatesX() {
+        buildCoordinates();
+        return coordinatesX;
+    }
+
+    /**
+     * Return y coordinates of every circle indicator, indexed by position.
+     * Table is rebuilt only after count, radius, stroke, padding or orientation changes.
+     */
+    @NonNull
+    public int[] getCoordinatesY() {
+        buildCoordinates();
+        return coordinatesY;
+    }
+
+    private void invalidateColor() {
+        colorVersion++;
+        dirtyFlags |= DIRTY_COLOR;
+    }
+
+    private void invalidateGeometry() {
+        geometryVersion++;
+        dirtyFlags |= DIRTY_GEOMETRY;
+    }
+
+    private void buildCoordinates() {
+        if (coordinatesVersion == geometryVersion) {
+            return;
+        }
+
+        int size = count > 0 ? count : 0;
+        if (coordinatesX.length != size) {
+            coordinatesX = new int[size];
+            coordinatesY = new int[size];
+        }
+
+        for (int position = 0; position < size; position++) {
+            coordinatesX[position] = CoordinatesUtils.computeXCoordinate(this, position);
+            coordinatesY[position] = CoordinatesUtils.computeYCoordinate(this, position);
+        }
+
+        coordinatesVersion = geometryVersion;
     }
 }
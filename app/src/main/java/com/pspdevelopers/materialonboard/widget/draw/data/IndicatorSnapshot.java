@@ -0,0 +1,234 @@
+package com.pspdevelopers.materialonboard.widget.draw.data;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.AnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.utils.CoordinatesUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Read-only copy of {@link Indicator} state and animation value needed to draw one frame.
+ * Snapshots are filled on the thread which owns indicator and handed out by {@link SnapshotBuffer},
+ * which never changes a snapshot while it is published or acquired by a reader,
+ * so it can be drawn from any thread.
+ */
+public final class IndicatorSnapshot {
+
+    private static final int VERSION_NONE = -1;
+
+    final AtomicInteger readers = new AtomicInteger();
+
+    private long frame;
+
+    private int count;
+    private int radius;
+    private int stroke;
+    private int width;
+    private int height;
+    private int step;
+    private float scaleFactor;
+    private Orientation orientation;
+
+    private int selectedColor;
+    private int unselectedColor;
+
+    private int selectedPosition;
+    private int selectingPosition;
+    private int lastSelectedPosition;
+
+    private boolean interactiveAnimation;
+    private AnimationType animationType;
+    private RenderMode renderMode;
+
+    private boolean windowed;
+    private int visibleCount;
+    private float windowOffset;
+
+    private int geometryVersion = VERSION_NONE;
+    private int colorVersion;
+    private int[] coordinatesX = new int[0];
+    private int[] coordinatesY = new int[0];
+
+    private AnimationValue animationValue = new AnimationValue();
+    private Value value;
+
+    IndicatorSnapshot() {
+    }
+
+    void capture(@NonNull Indicator indicator, @Nullable Value value, long frame) {
+        this.frame = frame;
+
+        count = indicator.getCount();
+        radius = indicator.getRadius();
+        stroke = indicator.getStroke();
+        width = indicator.getWidth();
+        height = indicator.getHeight();
+        step = CoordinatesUtils.getStep(indicator);
+        scaleFactor = indicator.getScaleFactor();
+        orientation = indicator.getOrientation();
+
+        selectedColor = indicator.getSelectedColor();
+        unselectedColor = indicator.getUnselectedColor();
+        colorVersion = indicator.getColorVersion();
+
+        selectedPosition = indicator.getSelectedPosition();
+        selectingPosition = indicator.getSelectingPosition();
+        lastSelectedPosition = indicator.getLastSelectedPosition();
+
+        interactiveAnimation = indicator.isInteractiveAnimation();
+        animationType = indicator.getEffectiveAnimationType();
+        renderMode = indicator.getRenderMode();
+
+        windowed = indicator.isWindowed();
+        visibleCount = indicator.getVisibleCount();
+        windowOffset = indicator.getWindowOffset();
+
+        if (geometryVersion != indicator.getGeometryVersion()) {
+            copyCoordinates(indicator);
+        }
+
+        this.value = animationValue.copy(value);
+    }
+
+    private void copyCoordinates(@NonNull Indicator indicator) {
+        int[] sourceX = indicator.getCoordinatesX();
+        int[] sourceY = indicator.getCoordinatesY();
+
+        if (coordinatesX.length != sourceX.length) {
+            coordinatesX = new int[sourceX.length];
+            coordinatesY = new int[sourceY.length];
+        }
+
+        System.arraycopy(sourceX, 0, coordinatesX, 0, sourceX.length);
+        System.arraycopy(sourceY, 0, coordinatesY, 0, sourceY.length);
+        geometryVersion = indicator.getGeometryVersion();
+    }
+
+    /**
+     * Return sequence number of the frame this snapshot was published for.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int getStroke() {
+        return stroke;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return distance between centers of two neighbour circle indicators.
+     */
+    public int getStep() {
+        return step;
+    }
+
+    public float getScaleFactor() {
+        return scaleFactor;
+    }
+
+    @NonNull
+    public Orientation getOrientation() {
+        return orientation;
+    }
+
+    public int getSelectedColor() {
+        return selectedColor;
+    }
+
+    public int getUnselectedColor() {
+        return unselectedColor;
+    }
+
+    public int getSelectedPosition() {
+        return selectedPosition;
+    }
+
+    public int getSelectingPosition() {
+        return selectingPosition;
+    }
+
+    public int getLastSelectedPosition() {
+        return lastSelectedPosition;
+    }
+
+    public boolean isInteractiveAnimation() {
+        return interactiveAnimation;
+    }
+
+    /**
+     * Return animation type actually running, see {@link Indicator#getEffectiveAnimationType()}.
+     */
+    @NonNull
+    public AnimationType getAnimationType() {
+        return animationType;
+    }
+
+    @NonNull
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    public boolean isWindowed() {
+        return windowed;
+    }
+
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+
+    public float getWindowOffset() {
+        return windowOffset;
+    }
+
+    public int getGeometryVersion() {
+        return geometryVersion;
+    }
+
+    public int getColorVersion() {
+        return colorVersion;
+    }
+
+    /**
+     * Return x coordinates of every circle indicator, indexed by position. Must not be modified.
+     */
+    @NonNull
+    public int[] getCoordinatesX() {
+        return coordinatesX;
+    }
+
+    /**
+     * Return y coordinates of every circle indicator, indexed by position. Must not be modified.
+     */
+    @NonNull
+    public int[] getCoordinatesY() {
+        return coordinatesY;
+    }
+
+    /**
+     * Return copy of animation value, or null when no animation is drawn.
+     */
+    @Nullable
+    public Value getValue() {
+        return value;
+    }
+}
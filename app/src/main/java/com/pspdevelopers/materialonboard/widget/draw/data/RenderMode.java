@@ -0,0 +1,3 @@
+package com.pspdevelopers.materialonboard.widget.draw.data;
+
+public enum RenderMode {DIRECT, CACHED}
@@ -0,0 +1,23 @@
+package com.pspdevelopers.materialonboard.widget.draw.data;
+
+public class ScrollProgress {
+
+    private int selectingPosition;
+    private float selectingProgress;
+
+    public int getSelectingPosition() {
+        return selectingPosition;
+    }
+
+    public void setSelectingPosition(int selectingPosition) {
+        this.selectingPosition = selectingPosition;
+    }
+
+    public float getSelectingProgress() {
+        return selectingProgress;
+    }
+
+    public void setSelectingProgress(float selectingProgress) {
+        this.selectingProgress = selectingProgress;
+    }
+}
@@ -0,0 +1,91 @@
+package com.pspdevelopers.materialonboard.widget.draw.data;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Publishes {@link IndicatorSnapshot} once per frame from the thread which owns indicator,
+ * and lets any thread read the latest one.
+ * Snapshot is filled off to the side and swapped in atomically. A snapshot which is published or still held
+ * by a reader is never refilled, so readers always see a consistent frame. Three snapshots cover one reader
+ * holding an older frame while a new one is filled; more are created only if readers hold several frames at once.
+ */
+public class SnapshotBuffer {
+
+    private static final int INITIAL_CAPACITY = 3;
+
+    private final ArrayList<IndicatorSnapshot> snapshots = new ArrayList<>(INITIAL_CAPACITY);
+    private final AtomicReference<IndicatorSnapshot> published = new AtomicReference<>();
+    private long frame;
+
+    /**
+     * Capture current state of indicator and value and make it the latest snapshot.
+     * Must be called from the thread which owns indicator, usually the main thread.
+     */
+    @NonNull
+    public IndicatorSnapshot publish(@NonNull Indicator indicator, @Nullable Value value) {
+        IndicatorSnapshot snapshot = obtain();
+        snapshot.capture(indicator, value, ++frame);
+        published.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Return latest published snapshot without acquiring it.
+     * Safe to read on the owner thread only, until the next {@link #publish(Indicator, Value)}.
+     */
+    @Nullable
+    public IndicatorSnapshot peek() {
+        return published.get();
+    }
+
+    /**
+     * Acquire latest published snapshot, which stays unchanged until {@link #release(IndicatorSnapshot)}.
+     * Can be called from any thread.
+     *
+     * @return latest snapshot, or null if nothing was published yet.
+     */
+    @Nullable
+    public IndicatorSnapshot acquire() {
+        while (true) {
+            IndicatorSnapshot snapshot = published.get();
+            if (snapshot == null) {
+                return null;
+            }
+
+            snapshot.readers.incrementAndGet();
+            if (published.get() == snapshot) {
+                return snapshot;
+            }
+
+            // Snapshot was replaced before it was acquired and may be refilled already, try the latest one.
+            snapshot.readers.decrementAndGet();
+        }
+    }
+
+    public void release(@Nullable IndicatorSnapshot snapshot) {
+        if (snapshot != null) {
+            snapshot.readers.decrementAndGet();
+        }
+    }
+
+    @NonNull
+    private IndicatorSnapshot obtain() {
+        IndicatorSnapshot current = published.get();
+        for (int i = 0; i < snapshots.size(); i++) {
+            IndicatorSnapshot snapshot = snapshots.get(i);
+            if (snapshot != current && snapshot.readers.get() == 0) {
+                return snapshot;
+            }
+        }
+
+        IndicatorSnapshot snapshot = new IndicatorSnapshot();
+        snapshots.add(snapshot);
+        return snapshot;
+    }
+}
@@ -4,10 +4,14 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.IndicatorSnapshot;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.type.BasicDrawer;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.type.ColorDrawer;
+import com.pspdevelopers.materialonboard.widget.draw.drawer.type.DropDrawer;
+import com.pspdevelopers.materialonboard.widget.draw.drawer.type.FillDrawer;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.type.LineDrawer;
+import com.pspdevelopers.materialonboard.widget.draw.drawer.type.ScaleDrawer;
+import com.pspdevelopers.materialonboard.widget.draw.drawer.type.SlideDrawer;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.type.SwapDrawer;
 import com.pspdevelopers.materialonboard.widget.draw.drawer.type.ThinLineDrawer;
 
@@ -20,22 +24,44 @@ public class Drawer {
     private LineDrawer lineDrawer;
     private ThinLineDrawer thinLineDrawer;
     private SwapDrawer swapDrawer;
-
+    private ScaleDrawer scaleDrawer;
+    private FillDrawer fillDrawer;
+    private SlideDrawer slideDrawer;
+    private DropDrawer dropDrawer;
 
     private int position;
     private int coordinateX;
     private int coordinateY;
 
-    public Drawer(@NonNull Indicator indicator) {
+    public Drawer() {
         Paint paint = new Paint();
         paint.setStyle(Paint.Style.FILL);
         paint.setAntiAlias(true);
 
-        basicDrawer = new BasicDrawer(paint, indicator);
-        colorDrawer = new ColorDrawer(paint, indicator);
-        lineDrawer = new LineDrawer(paint, indicator);
-        thinLineDrawer = new ThinLineDrawer(paint, indicator);
-        swapDrawer = new SwapDrawer(paint, indicator);
+        basicDrawer = new BasicDrawer(paint);
+        colorDrawer = new ColorDrawer(paint);
+        lineDrawer = new LineDrawer(paint);
+        thinLineDrawer = new ThinLineDrawer(paint);
+        swapDrawer = new SwapDrawer(paint);
+        scaleDrawer = new ScaleDrawer(paint);
+        fillDrawer = new FillDrawer(paint);
+        slideDrawer = new SlideDrawer(paint);
+        dropDrawer = new DropDrawer(paint);
+    }
+
+    /**
+     * Set snapshot of indicator state to draw from, must be called before drawing each frame.
+     */
+    public void setSnapshot(@NonNull IndicatorSnapshot snapshot) {
+        basicDrawer.setSnapshot(snapshot);
+        colorDrawer.setSnapshot(snapshot);
+        lineDrawer.setSnapshot(snapshot);
+        thinLineDrawer.setSnapshot(snapshot);
+        swapDrawer.setSnapshot(snapshot);
+        scaleDrawer.setSnapshot(snapshot);
+        fillDrawer.setSnapshot(snapshot);
+        slideDrawer.setSnapshot(snapshot);
+        dropDrawer.setSnapshot(snapshot);
     }
 
     public void setup(int position, int coordinateX, int coordinateY) {
@@ -50,6 +76,25 @@ public class Drawer {
         }
     }
 
+    public void drawBasic(@NonNull Canvas canvas, float radius) {
+        if (basicDrawer != null) {
+            basicDrawer.draw(canvas, position, coordinateX, coordinateY, radius);
+        }
+    }
+
+    public void drawUnselected(
+            @NonNull Canvas canvas,
+            @NonNull int[] coordinatesX,
+            @NonNull int[] coordinatesY,
+            int firstExcluded,
+            int secondExcluded,
+            int thirdExcluded) {
+
+        if (basicDrawer != null) {
+            basicDrawer.drawUnselected(canvas, coordinatesX, coordinatesY, firstExcluded, secondExcluded, thirdExcluded);
+        }
+    }
+
     public void drawColor(@NonNull Canvas canvas, @NonNull Value value) {
         if (colorDrawer != null) {
             colorDrawer.draw(canvas, value, position, coordinateX, coordinateY);
@@ -75,4 +120,27 @@ public class Drawer {
         }
     }
 
+    public void drawScale(@NonNull Canvas canvas, @NonNull Value value) {
+        if (scaleDrawer != null) {
+            scaleDrawer.draw(canvas, value, position, coordinateX, coordinateY);
+        }
+    }
+
+    public void drawFill(@NonNull Canvas canvas, @NonNull Value value) {
+        if (fillDrawer != null) {
+            fillDrawer.draw(canvas, value, position, coordinateX, coordinateY);
+        }
+    }
+
+    public void drawSlide(@NonNull Canvas canvas, @NonNull Value value) {
+        if (slideDrawer != null) {
+            slideDrawer.draw(canvas, value, coordinateX, coordinateY);
+        }
+    }
+
+    public void drawDrop(@NonNull Canvas canvas, @NonNull Value value) {
+        if (dropDrawer != null) {
+            dropDrawer.draw(canvas, value, coordinateX, coordinateY);
+        }
+    }
 }
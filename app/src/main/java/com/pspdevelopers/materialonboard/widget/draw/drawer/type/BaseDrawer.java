@@ -2,17 +2,20 @@ package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
 
 import android.graphics.Paint;
 
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.IndicatorSnapshot;
 
 import androidx.annotation.NonNull;
 
 class BaseDrawer {
 
     Paint paint;
-    Indicator indicator;
+    IndicatorSnapshot snapshot;
 
-    BaseDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
+    BaseDrawer(@NonNull Paint paint) {
         this.paint = paint;
-        this.indicator = indicator;
+    }
+
+    public void setSnapshot(@NonNull IndicatorSnapshot snapshot) {
+        this.snapshot = snapshot;
     }
 }
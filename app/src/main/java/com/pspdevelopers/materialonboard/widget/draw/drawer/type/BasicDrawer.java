@@ -2,22 +2,69 @@ package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
-
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import android.graphics.Path;
 
 import androidx.annotation.NonNull;
 
 public class BasicDrawer extends BaseDrawer {
 
+    private static final int VERSION_NONE = -1;
+
     private Paint strokePaint;
+    private Path unselectedPath;
+
+    private int pathGeometryVersion = VERSION_NONE;
+    private int pathFirstExcluded;
+    private int pathSecondExcluded;
+    private int pathThirdExcluded;
 
-    public BasicDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
-        super(paint, indicator);
+    public BasicDrawer(@NonNull Paint paint) {
+        super(paint);
 
         strokePaint = new Paint();
         strokePaint.setStyle(Paint.Style.STROKE);
         strokePaint.setAntiAlias(true);
-        strokePaint.setStrokeWidth(indicator.getStroke());
+        unselectedPath = new Path();
+    }
+
+    /**
+     * Draw all unselected circles except three excluded positions with a single draw call.
+     * Circles are kept in one path, rebuilt only after geometry or excluded positions change.
+     */
+    public void drawUnselected(
+            @NonNull Canvas canvas,
+            @NonNull int[] coordinatesX,
+            @NonNull int[] coordinatesY,
+            int firstExcluded,
+            int secondExcluded,
+            int thirdExcluded) {
+
+        int geometryVersion = snapshot.getGeometryVersion();
+        boolean isPathValid = pathGeometryVersion == geometryVersion
+                && pathFirstExcluded == firstExcluded
+                && pathSecondExcluded == secondExcluded
+                && pathThirdExcluded == thirdExcluded;
+
+        if (!isPathValid) {
+            float radius = snapshot.getRadius();
+            int count = coordinatesX.length;
+            unselectedPath.rewind();
+
+            for (int position = 0; position < count; position++) {
+                if (position != firstExcluded && position != secondExcluded && position != thirdExcluded) {
+                    unselectedPath.addCircle(coordinatesX[position], coordinatesY[position], radius, Path.Direction.CW);
+                }
+            }
+
+            pathGeometryVersion = geometryVersion;
+            pathFirstExcluded = firstExcluded;
+            pathSecondExcluded = secondExcluded;
+            pathThirdExcluded = thirdExcluded;
+        }
+
+        strokePaint.setStrokeWidth(snapshot.getStroke());
+        strokePaint.setColor(snapshot.getUnselectedColor());
+        canvas.drawPath(unselectedPath, strokePaint);
     }
 
     public void draw(
@@ -26,12 +73,21 @@ public class BasicDrawer extends BaseDrawer {
             int coordinateX,
             int coordinateY) {
 
-        float radius = indicator.getRadius();
-        int strokePx = indicator.getStroke();
+        draw(canvas, position, coordinateX, coordinateY, snapshot.getRadius());
+    }
+
+    public void draw(
+            @NonNull Canvas canvas,
+            int position,
+            int coordinateX,
+            int coordinateY,
+            float radius) {
+
+        int strokePx = snapshot.getStroke();
 
-        int selectedColor = indicator.getSelectedColor();
-        int unselectedColor = indicator.getUnselectedColor();
-        int selectedPosition = indicator.getSelectedPosition();
+        int selectedColor = snapshot.getSelectedColor();
+        int unselectedColor = snapshot.getUnselectedColor();
+        int selectedPosition = snapshot.getSelectedPosition();
 
 
         int color = unselectedColor;
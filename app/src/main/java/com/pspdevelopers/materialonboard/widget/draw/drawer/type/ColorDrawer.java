@@ -5,14 +5,13 @@ import android.graphics.Paint;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.ColorAnimationValue;
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 
 import androidx.annotation.NonNull;
 
 public class ColorDrawer extends BaseDrawer {
 
-    public ColorDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
-        super(paint, indicator);
+    public ColorDrawer(@NonNull Paint paint) {
+        super(paint);
     }
 
     public void draw(@NonNull Canvas canvas,
@@ -26,14 +25,14 @@ public class ColorDrawer extends BaseDrawer {
         }
 
         ColorAnimationValue v = (ColorAnimationValue) value;
-        float radius = indicator.getRadius();
-        int color = indicator.getSelectedColor();
+        float radius = snapshot.getRadius();
+        int color = snapshot.getSelectedColor();
 
-        int selectedPosition = indicator.getSelectedPosition();
-        int selectingPosition = indicator.getSelectingPosition();
-        int lastSelectedPosition = indicator.getLastSelectedPosition();
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
 
-        if (indicator.isInteractiveAnimation()) {
+        if (snapshot.isInteractiveAnimation()) {
             if (position == selectingPosition) {
                 color = v.getColor();
 
@@ -0,0 +1,43 @@
+package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
+import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
+
+import androidx.annotation.NonNull;
+
+public class DropDrawer extends BaseDrawer {
+
+    public DropDrawer(@NonNull Paint paint) {
+        super(paint);
+    }
+
+    public void draw(
+            @NonNull Canvas canvas,
+            @NonNull Value value,
+            int coordinateX,
+            int coordinateY) {
+
+        if (!(value instanceof DropAnimationValue)) {
+            return;
+        }
+
+        DropAnimationValue v = (DropAnimationValue) value;
+        int unselectedColor = snapshot.getUnselectedColor();
+        int selectedColor = snapshot.getSelectedColor();
+        float radius = snapshot.getRadius();
+
+        paint.setColor(unselectedColor);
+        canvas.drawCircle(coordinateX, coordinateY, radius, paint);
+
+        paint.setColor(selectedColor);
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
+            canvas.drawCircle(v.getWidth(), v.getHeight(), v.getRadius(), paint);
+        } else {
+            canvas.drawCircle(v.getHeight(), v.getWidth(), v.getRadius(), paint);
+        }
+    }
+}
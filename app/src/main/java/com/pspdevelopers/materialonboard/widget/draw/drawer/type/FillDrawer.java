@@ -0,0 +1,74 @@
+package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.FillAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class FillDrawer extends BaseDrawer {
+
+    private Paint strokePaint;
+
+    public FillDrawer(@NonNull Paint paint) {
+        super(paint);
+
+        strokePaint = new Paint();
+        strokePaint.setStyle(Paint.Style.STROKE);
+        strokePaint.setAntiAlias(true);
+    }
+
+    public void draw(@NonNull Canvas canvas,
+                     @NonNull Value value,
+                     int position,
+                     int coordinateX,
+                     int coordinateY) {
+
+        if (!(value instanceof FillAnimationValue)) {
+            return;
+        }
+
+        FillAnimationValue v = (FillAnimationValue) value;
+        int color = snapshot.getUnselectedColor();
+        float radius = snapshot.getRadius();
+        int stroke = snapshot.getStroke();
+
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
+
+        if (snapshot.isInteractiveAnimation()) {
+            if (position == selectingPosition) {
+                color = v.getColor();
+                radius = v.getRadius();
+                stroke = v.getStroke();
+
+            } else if (position == selectedPosition) {
+                color = v.getColorReverse();
+                radius = v.getRadiusReverse();
+                stroke = v.getStrokeReverse();
+            }
+
+        } else {
+            if (position == selectedPosition) {
+                color = v.getColor();
+                radius = v.getRadius();
+                stroke = v.getStroke();
+
+            } else if (position == lastSelectedPosition) {
+                color = v.getColorReverse();
+                radius = v.getRadiusReverse();
+                stroke = v.getStrokeReverse();
+            }
+        }
+
+        strokePaint.setColor(color);
+        strokePaint.setStrokeWidth(snapshot.getStroke());
+        canvas.drawCircle(coordinateX, coordinateY, snapshot.getRadius(), strokePaint);
+
+        strokePaint.setStrokeWidth(stroke);
+        canvas.drawCircle(coordinateX, coordinateY, radius, strokePaint);
+    }
+}
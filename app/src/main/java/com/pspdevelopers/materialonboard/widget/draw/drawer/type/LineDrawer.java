@@ -6,7 +6,6 @@ import android.graphics.RectF;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
 
 import androidx.annotation.NonNull;
@@ -15,8 +14,8 @@ public class LineDrawer extends BaseDrawer {
 
     public RectF rect;
 
-    public LineDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
-        super(paint, indicator);
+    public LineDrawer(@NonNull Paint paint) {
+        super(paint);
         rect = new RectF();
     }
 
@@ -34,11 +33,11 @@ public class LineDrawer extends BaseDrawer {
         int rectStart = v.getRectStart();
         int rectEnd = v.getRectEnd();
 
-        int radius = indicator.getRadius();
-        int unselectedColor = indicator.getUnselectedColor();
-        int selectedColor = indicator.getSelectedColor();
+        int radius = snapshot.getRadius();
+        int unselectedColor = snapshot.getUnselectedColor();
+        int selectedColor = snapshot.getSelectedColor();
 
-        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
             rect.left = rectStart;
             rect.right = rectEnd;
             rect.top = coordinateY - radius;
@@ -0,0 +1,59 @@
+package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ScaleAnimationValue;
+
+import androidx.annotation.NonNull;
+
+public class ScaleDrawer extends BaseDrawer {
+
+    public ScaleDrawer(@NonNull Paint paint) {
+        super(paint);
+    }
+
+    public void draw(@NonNull Canvas canvas,
+                     @NonNull Value value,
+                     int position,
+                     int coordinateX,
+                     int coordinateY) {
+
+        if (!(value instanceof ScaleAnimationValue)) {
+            return;
+        }
+
+        ScaleAnimationValue v = (ScaleAnimationValue) value;
+        float radius = snapshot.getRadius();
+        int color = snapshot.getSelectedColor();
+
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
+
+        if (snapshot.isInteractiveAnimation()) {
+            if (position == selectingPosition) {
+                radius = v.getRadius();
+                color = v.getColor();
+
+            } else if (position == selectedPosition) {
+                radius = v.getRadiusReverse();
+                color = v.getColorReverse();
+            }
+
+        } else {
+            if (position == selectedPosition) {
+                radius = v.getRadius();
+                color = v.getColor();
+
+            } else if (position == lastSelectedPosition) {
+                radius = v.getRadiusReverse();
+                color = v.getColorReverse();
+            }
+        }
+
+        paint.setColor(color);
+        canvas.drawCircle(coordinateX, coordinateY, radius, paint);
+    }
+}
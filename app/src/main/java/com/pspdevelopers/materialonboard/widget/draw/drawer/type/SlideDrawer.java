@@ -0,0 +1,43 @@
+package com.pspdevelopers.materialonboard.widget.draw.drawer.type;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.SlideAnimationValue;
+import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
+
+import androidx.annotation.NonNull;
+
+public class SlideDrawer extends BaseDrawer {
+
+    public SlideDrawer(@NonNull Paint paint) {
+        super(paint);
+    }
+
+    public void draw(
+            @NonNull Canvas canvas,
+            @NonNull Value value,
+            int coordinateX,
+            int coordinateY) {
+
+        if (!(value instanceof SlideAnimationValue)) {
+            return;
+        }
+
+        int coordinate = ((SlideAnimationValue) value).getCoordinate();
+        int unselectedColor = snapshot.getUnselectedColor();
+        int selectedColor = snapshot.getSelectedColor();
+        int radius = snapshot.getRadius();
+
+        paint.setColor(unselectedColor);
+        canvas.drawCircle(coordinateX, coordinateY, radius, paint);
+
+        paint.setColor(selectedColor);
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
+            canvas.drawCircle(coordinate, coordinateY, radius, paint);
+        } else {
+            canvas.drawCircle(coordinateX, coordinate, radius, paint);
+        }
+    }
+}
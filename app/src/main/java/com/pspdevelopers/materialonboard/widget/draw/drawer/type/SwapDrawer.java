@@ -5,15 +5,14 @@ import android.graphics.Paint;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.SwapAnimationValue;
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
 
 import androidx.annotation.NonNull;
 
 public class SwapDrawer extends BaseDrawer {
 
-    public SwapDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
-        super(paint, indicator);
+    public SwapDrawer(@NonNull Paint paint) {
+        super(paint);
     }
 
     public void draw(
@@ -28,18 +27,18 @@ public class SwapDrawer extends BaseDrawer {
         }
 
         SwapAnimationValue v = (SwapAnimationValue) value;
-        int selectedColor = indicator.getSelectedColor();
-        int unselectedColor = indicator.getUnselectedColor();
-        int radius = indicator.getRadius();
+        int selectedColor = snapshot.getSelectedColor();
+        int unselectedColor = snapshot.getUnselectedColor();
+        int radius = snapshot.getRadius();
 
-        int selectedPosition = indicator.getSelectedPosition();
-        int selectingPosition = indicator.getSelectingPosition();
-        int lastSelectedPosition = indicator.getLastSelectedPosition();
+        int selectedPosition = snapshot.getSelectedPosition();
+        int selectingPosition = snapshot.getSelectingPosition();
+        int lastSelectedPosition = snapshot.getLastSelectedPosition();
 
         int coordinate = v.getCoordinate();
         int color = unselectedColor;
 
-        if (indicator.isInteractiveAnimation()) {
+        if (snapshot.isInteractiveAnimation()) {
             if (position == selectingPosition) {
                 coordinate = v.getCoordinate();
                 color = selectedColor;
@@ -61,7 +60,7 @@ public class SwapDrawer extends BaseDrawer {
         }
 
         paint.setColor(color);
-        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
             canvas.drawCircle(coordinate, coordinateY, radius, paint);
         } else {
             canvas.drawCircle(coordinateX, coordinate, radius, paint);
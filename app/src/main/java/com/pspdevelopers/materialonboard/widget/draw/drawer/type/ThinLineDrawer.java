@@ -5,15 +5,14 @@ import android.graphics.Paint;
 
 import com.pspdevelopers.materialonboard.widget.animation.data.Value;
 import com.pspdevelopers.materialonboard.widget.animation.data.type.ThinWormAnimationValue;
-import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
 
 import androidx.annotation.NonNull;
 
 public class ThinLineDrawer extends LineDrawer {
 
-    public ThinLineDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
-        super(paint, indicator);
+    public ThinLineDrawer(@NonNull Paint paint) {
+        super(paint);
     }
 
     public void draw(
@@ -31,11 +30,11 @@ public class ThinLineDrawer extends LineDrawer {
         int rectEnd = v.getRectEnd();
         int height = v.getHeight() / 2;
 
-        int radius = indicator.getRadius();
-        int unselectedColor = indicator.getUnselectedColor();
-        int selectedColor = indicator.getSelectedColor();
+        int radius = snapshot.getRadius();
+        int unselectedColor = snapshot.getUnselectedColor();
+        int selectedColor = snapshot.getSelectedColor();
 
-        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+        if (snapshot.getOrientation() == Orientation.HORIZONTAL) {
             rect.left = rectStart;
             rect.right = rectEnd;
             rect.top = coordinateY - height;
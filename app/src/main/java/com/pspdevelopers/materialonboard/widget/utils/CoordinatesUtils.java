@@ -1,9 +1,9 @@
 package com.pspdevelopers.materialonboard.widget.utils;
 
-import android.util.Pair;
-
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
 import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
 import com.pspdevelopers.materialonboard.widget.draw.data.Orientation;
+import com.pspdevelopers.materialonboard.widget.draw.data.ScrollProgress;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -23,21 +23,17 @@ public class CoordinatesUtils {
         }
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
     public static int getXCoordinate(@Nullable Indicator indicator, int position) {
         if (indicator == null) {
             return 0;
         }
 
-        int coordinate;
-        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
-            coordinate = getHorizontalCoordinate(indicator, position);
-        } else {
-            coordinate = getVerticalCoordinate(indicator);
+        int[] coordinates = indicator.getCoordinatesX();
+        if (position >= 0 && position < coordinates.length) {
+            return coordinates[position];
         }
 
-        coordinate += indicator.getPaddingLeft();
-        return coordinate;
+        return computeXCoordinate(indicator, position);
     }
 
     public static int getYCoordinate(@Nullable Indicator indicator, int position) {
@@ -45,15 +41,37 @@ public class CoordinatesUtils {
             return 0;
         }
 
-        int coordinate;
+        int[] coordinates = indicator.getCoordinatesY();
+        if (position >= 0 && position < coordinates.length) {
+            return coordinates[position];
+        }
+
+        return computeYCoordinate(indicator, position);
+    }
+
+    public static int computeXCoordinate(@NonNull Indicator indicator, int position) {
         if (indicator.getOrientation() == Orientation.HORIZONTAL) {
-            coordinate = getVerticalCoordinate(indicator);
-        } else {
-            coordinate = getHorizontalCoordinate(indicator, position);
+            return getHorizontalCoordinate(indicator, position) + indicator.getPaddingLeft();
         }
 
-        coordinate += indicator.getPaddingTop();
-        return coordinate;
+        return getCrossCoordinate(indicator);
+    }
+
+    public static int computeYCoordinate(@NonNull Indicator indicator, int position) {
+        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+            return getCrossCoordinate(indicator);
+        }
+
+        return getHorizontalCoordinate(indicator, position) + indicator.getPaddingTop();
+    }
+
+    /**
+     * Return coordinate of circle centers across the indicator, including padding.
+     * Drop animation rests at this coordinate before and after every selection.
+     */
+    public static int getCrossCoordinate(@NonNull Indicator indicator) {
+        int padding = indicator.getOrientation() == Orientation.HORIZONTAL ? indicator.getPaddingTop() : indicator.getPaddingLeft();
+        return getVerticalCoordinate(indicator) + padding;
     }
 
     @SuppressWarnings("SuspiciousNameCombination")
@@ -80,54 +98,116 @@ public class CoordinatesUtils {
         int count = indicator.getCount();
         int radius = indicator.getRadius();
         int stroke = indicator.getStroke();
-        int padding = indicator.getPadding();
+        int touchSlop = indicator.getTouchSlop();
 
-        int height = indicator.getOrientation() == Orientation.HORIZONTAL ? indicator.getHeight() : indicator.getWidth();
-        int length = 0;
+        boolean isHorizontal = indicator.getOrientation() == Orientation.HORIZONTAL;
+        int lengthPadding = isHorizontal ? indicator.getPaddingLeft() : indicator.getPaddingTop();
+        int height = isHorizontal ? indicator.getHeight() : indicator.getWidth();
 
-        for (int i = 0; i < count; i++) {
-            int indicatorPadding = i > 0 ? padding : padding / 2;
-            int startValue = length;
+        int halfStroke = stroke / 2;
+        int step = getStep(indicator);
+        int firstCenter = lengthPadding + radius + halfStroke;
 
-            length += radius * 2 + (stroke / 2) + indicatorPadding;
-            int endValue = length;
+        if (indicator.isWindowed()) {
+            lengthCoordinate += indicator.getWindowOffset() * step;
+        }
 
-            boolean fitLength = lengthCoordinate >= startValue && lengthCoordinate <= endValue;
-            boolean fitHeight = heightCoordinate >= 0 && heightCoordinate <= height;
+        if (count <= 0 || step <= 0) {
+            return -1;
+        }
 
-            if (fitLength && fitHeight) {
-                return i;
-            }
+        int position = (int) Math.floor((lengthCoordinate - firstCenter) / step + 0.5f);
+        if (position < 0 || position >= count) {
+            return -1;
         }
 
-        return -1;
+        float lengthDistance = Math.abs(lengthCoordinate - (firstCenter + step * position));
+        boolean fitLength;
+        boolean fitHeight;
+
+        if (touchSlop == Indicator.TOUCH_SLOP_SLOT) {
+            fitLength = lengthDistance <= step / 2f;
+            fitHeight = heightCoordinate >= 0 && heightCoordinate <= height;
+
+        } else {
+            int extent = radius + halfStroke + touchSlop;
+            int heightCenter = isHorizontal ? computeYCoordinate(indicator, position) : computeXCoordinate(indicator, position);
+            float heightDistance = Math.abs(heightCoordinate - heightCenter);
+
+            fitLength = lengthDistance <= extent;
+            fitHeight = heightDistance <= extent;
+        }
+
+        return fitLength && fitHeight ? position : -1;
     }
 
     private static int getHorizontalCoordinate(@NonNull Indicator indicator, int position) {
         int count = indicator.getCount();
         int radius = indicator.getRadius();
         int stroke = indicator.getStroke();
+
+        int halfStroke = stroke / 2;
+        int step = getStep(indicator);
+
+        if (position < 0 || position >= count) {
+            return count > 0 ? step * count : 0;
+        }
+
+        return step * position + radius + halfStroke;
+    }
+
+    /**
+     * Return distance between centers of two neighbour circle indicators.
+     */
+    public static int getStep(@NonNull Indicator indicator) {
+        int radius = indicator.getRadius();
+        int stroke = indicator.getStroke();
         int padding = indicator.getPadding();
 
-        int coordinate = 0;
-        for (int i = 0; i < count; i++) {
-            coordinate += radius + (stroke / 2);
+        return radius * 2 + padding + (stroke / 2) * 2;
+    }
+
+    /**
+     * Return window offset which keeps given position in the middle of window,
+     * limited so window never goes beyond first or last circle indicator.
+     */
+    public static float getWindowOffset(@NonNull Indicator indicator, int position) {
+        if (!indicator.isWindowed()) {
+            return 0;
+        }
+
+        int visibleCount = indicator.getVisibleCount();
+        int maxOffset = indicator.getCount() - visibleCount;
+        int offset = position - visibleCount / 2;
 
-            if (position == i) {
-                return coordinate;
-            }
+        if (offset < 0) {
+            offset = 0;
 
-            coordinate += radius + padding + (stroke / 2);
+        } else if (offset > maxOffset) {
+            offset = maxOffset;
         }
 
-        return coordinate;
+        return offset;
     }
 
     private static int getVerticalCoordinate(@NonNull Indicator indicator) {
-        return indicator.getRadius();
+        int radius = indicator.getRadius();
+
+        // Drop rests at 3 radii, leaving room above the row for the drop to rise into.
+        if (indicator.getAnimationType() == AnimationType.DROP) {
+            return radius * 3;
+        }
+
+        return radius;
     }
 
-    public static Pair<Integer, Float> getProgress(@NonNull Indicator indicator, int position, float positionOffset, boolean isRtl) {
+    public static void getProgress(
+            @NonNull Indicator indicator,
+            int position,
+            float positionOffset,
+            boolean isRtl,
+            @NonNull ScrollProgress result) {
+
         int count = indicator.getCount();
         int selectedPosition = indicator.getSelectedPosition();
 
@@ -176,6 +256,7 @@ public class CoordinatesUtils {
             selectingProgress = 0;
         }
 
-        return new Pair<>(selectingPosition, selectingProgress);
+        result.setSelectingPosition(selectingPosition);
+        result.setSelectingProgress(selectingProgress);
     }
 }
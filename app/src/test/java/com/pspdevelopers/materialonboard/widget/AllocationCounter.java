@@ -0,0 +1,33 @@
+package com.pspdevelopers.materialonboard.widget;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts bytes allocated by the current thread while running a block of code.
+ * Uses HotSpot thread allocation counters, available on any JDK used to run local unit tests.
+ */
+public class AllocationCounter {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+
+    public static long measure(int iterations, Runnable block) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            block.run();
+        }
+
+        long overheadStart = bean.getThreadAllocatedBytes(threadId);
+        long overheadEnd = bean.getThreadAllocatedBytes(threadId);
+        long overhead = overheadEnd - overheadStart;
+
+        long start = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            block.run();
+        }
+        long end = bean.getThreadAllocatedBytes(threadId);
+
+        return Math.max(0, end - start - overhead);
+    }
+}
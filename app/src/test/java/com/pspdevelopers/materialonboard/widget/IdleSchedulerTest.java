@@ -0,0 +1,94 @@
+package com.pspdevelopers.materialonboard.widget;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IdleSchedulerTest {
+
+    private static final long IDLE_DURATION = 3000;
+    private static final int TOUCHES = 100;
+
+    private FakeScheduler scheduler;
+    private CountingCallback callback;
+
+    @Before
+    public void setUp() {
+        scheduler = new FakeScheduler();
+        callback = new CountingCallback();
+    }
+
+    @Test
+    public void repeatedTouches_postSingleMessage() {
+        scheduler.schedule(callback, IDLE_DURATION);
+
+        for (int i = 0; i < TOUCHES; i++) {
+            scheduler.time += 10;
+            scheduler.cancel(callback);
+            scheduler.time += 10;
+            scheduler.schedule(callback, IDLE_DURATION);
+        }
+
+        assertEquals(1, scheduler.posts);
+    }
+
+    @Test
+    public void earlyMessage_reArmsForMovedDeadline() {
+        scheduler.schedule(callback, IDLE_DURATION);
+        scheduler.time += 1000;
+        scheduler.cancel(callback);
+        scheduler.schedule(callback, IDLE_DURATION);
+
+        scheduler.time = scheduler.postedAt;
+        scheduler.run();
+        assertEquals(0, callback.idleCount);
+        assertEquals(2, scheduler.posts);
+        assertEquals(1000 + IDLE_DURATION, scheduler.postedAt);
+
+        scheduler.time = scheduler.postedAt;
+        scheduler.run();
+        assertEquals(1, callback.idleCount);
+        assertEquals(2, scheduler.posts);
+    }
+
+    @Test
+    public void cancelledCallback_isNotNotified() {
+        scheduler.schedule(callback, IDLE_DURATION);
+        scheduler.cancel(callback);
+
+        scheduler.time = scheduler.postedAt;
+        scheduler.run();
+
+        assertEquals(0, callback.idleCount);
+        assertEquals(1, scheduler.posts);
+    }
+
+    private static class FakeScheduler extends IdleScheduler {
+
+        private long time;
+        private long postedAt;
+        private int posts;
+
+        @Override
+        long now() {
+            return time;
+        }
+
+        @Override
+        void postAtTime(long uptimeMillis) {
+            postedAt = uptimeMillis;
+            posts++;
+        }
+    }
+
+    private static class CountingCallback implements IdleScheduler.Callback {
+
+        private int idleCount;
+
+        @Override
+        public void onIdle() {
+            idleCount++;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.pspdevelopers.materialonboard.widget.animation.controller;
+
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+
+import androidx.annotation.Nullable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class QualityGovernorTest {
+
+    private static final long FRAME_NANOS = 16_666_667;
+    private static final int FRAMES = 20;
+
+    @Test
+    public void smoothAnimation_keepsRequestedType() {
+        QualityGovernor governor = new QualityGovernor();
+        runAnimation(governor, 1);
+
+        assertEquals(AnimationType.THIN_LINE, governor.resolve(AnimationType.THIN_LINE));
+    }
+
+    @Test
+    public void droppedFrames_stepDownToColorThenNone() {
+        QualityGovernor governor = new QualityGovernor();
+
+        runAnimation(governor, 3);
+        assertEquals(AnimationType.COLOR, governor.resolve(AnimationType.LINE));
+
+        runAnimation(governor, 3);
+        assertEquals(AnimationType.NONE, governor.resolve(AnimationType.LINE));
+    }
+
+    @Test
+    public void smoothAnimations_stepBackUp() {
+        QualityGovernor governor = new QualityGovernor();
+        runAnimation(governor, 3);
+
+        for (int i = 0; i < 4; i++) {
+            runAnimation(governor, 1);
+            assertEquals(AnimationType.COLOR, governor.resolve(AnimationType.LINE));
+        }
+
+        runAnimation(governor, 1);
+        assertEquals(AnimationType.LINE, governor.resolve(AnimationType.LINE));
+    }
+
+    @Test
+    public void skippedSelections_probeReducedQuality() {
+        QualityGovernor governor = new QualityGovernor();
+        runAnimation(governor, 3);
+        runAnimation(governor, 3);
+
+        for (int i = 0; i < 5; i++) {
+            governor.skip();
+        }
+
+        assertEquals(AnimationType.COLOR, governor.resolve(AnimationType.LINE));
+    }
+
+    @Test
+    public void powerState_capsQuality() {
+        QualityGovernor governor = new QualityGovernor();
+
+        governor.setPowerSaveMode(true);
+        assertEquals(AnimationType.COLOR, governor.resolve(AnimationType.THIN_LINE));
+        assertEquals(AnimationType.NONE, governor.resolve(AnimationType.NONE));
+
+        governor.setPowerSaveMode(false);
+        governor.setDurationScale(0);
+        assertEquals(AnimationType.NONE, governor.resolve(AnimationType.THIN_LINE));
+    }
+
+    @Test
+    public void selectionsWithoutRequestedAnimation_doNotProbe() {
+        Indicator indicator = new Indicator();
+        indicator.setAdaptiveQuality(true);
+        indicator.setAnimationType(AnimationType.NONE);
+
+        AnimationController controller = new AnimationController(indicator, new ValueController.UpdateListener() {
+            @Override
+            public void onValueUpdated(@Nullable Value value) {
+            }
+        });
+
+        QualityGovernor governor = controller.qualityGovernor();
+        runAnimation(governor, 3);
+        runAnimation(governor, 3);
+
+        for (int i = 0; i < 5; i++) {
+            controller.basic();
+        }
+
+        assertEquals(QualityGovernor.QUALITY_NONE, governor.getQuality());
+    }
+
+    private static void runAnimation(QualityGovernor governor, int framesPerStep) {
+        long time = 0;
+        for (int i = 0; i < FRAMES; i++) {
+            governor.onFrame(time);
+            time += FRAME_NANOS * framesPerStep;
+        }
+
+        governor.onAnimationEnd();
+    }
+}
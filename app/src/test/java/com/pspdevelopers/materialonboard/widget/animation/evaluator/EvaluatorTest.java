@@ -0,0 +1,201 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import com.pspdevelopers.materialonboard.widget.AllocationCounter;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ColorAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.FillAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ScaleAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.SlideAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.ThinWormAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EvaluatorTest {
+
+    private static final int FRAMES = 100_000;
+
+    private static final int COLOR_START = 0x33ffffff;
+    private static final int COLOR_END = 0xff2196f3;
+
+    @Test
+    public void accelerateDecelerate_matchesInterpolatorCurve() {
+        assertEquals(0f, Interpolation.accelerateDecelerate(0f), 1e-6f);
+        assertEquals(0.5f, Interpolation.accelerateDecelerate(0.5f), 1e-6f);
+        assertEquals(1f, Interpolation.accelerateDecelerate(1f), 1e-6f);
+    }
+
+    @Test
+    public void evaluateArgb_returnsEndpointColors() {
+        assertEquals(COLOR_START, Interpolation.evaluateArgb(COLOR_START, COLOR_END, 0f));
+        assertEquals(COLOR_END, Interpolation.evaluateArgb(COLOR_START, COLOR_END, 1f));
+    }
+
+    @Test
+    public void palette_matchesArgbBlendAtSamples() {
+        ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+
+        int last = palette.getResolution() - 1;
+        for (int i = 0; i <= last; i++) {
+            float fraction = (float) i / last;
+            assertEquals(Interpolation.evaluateArgb(COLOR_START, COLOR_END, fraction), palette.getColor(fraction));
+        }
+    }
+
+    @Test
+    public void palette_keepsEndpointsForAnyResolution() {
+        ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+        palette.setResolution(ColorPalette.MIN_RESOLUTION);
+
+        assertEquals(COLOR_START, palette.getColor(0f));
+        assertEquals(COLOR_END, palette.getColor(1f));
+        assertEquals(COLOR_END, palette.getColor(1.5f));
+    }
+
+    @Test
+    public void color_reverseColorMirrorsColor() {
+        ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+
+        ColorAnimationValue value = new ColorAnimationValue();
+        ColorEvaluator.evaluate(value, palette, 0.3f);
+
+        // Expected colors are blended directly at the palette sample nearest to the eased fraction.
+        int last = palette.getResolution() - 1;
+        float fraction = Interpolation.accelerateDecelerate(0.3f);
+        int index = Math.round(fraction * last);
+        int reverseIndex = Math.round((1 - fraction) * last);
+
+        assertEquals(Interpolation.evaluateArgb(COLOR_START, COLOR_END, (float) index / last), value.getColor());
+        assertEquals(Interpolation.evaluateArgb(COLOR_START, COLOR_END, (float) reverseIndex / last), value.getColorReverse());
+    }
+
+    @Test
+    public void worm_leadingEdgeMovesFirst() {
+        WormAnimationValue value = new WormAnimationValue();
+
+        WormEvaluator.evaluate(value, 10, 40, 5, true, 0.5f);
+        assertEquals(5, value.getRectStart());
+        assertEquals(45, value.getRectEnd());
+
+        WormEvaluator.evaluate(value, 10, 40, 5, true, 1f);
+        assertEquals(35, value.getRectStart());
+        assertEquals(45, value.getRectEnd());
+    }
+
+    @Test
+    public void worm_movingLeft_swapsEdges() {
+        WormAnimationValue value = new WormAnimationValue();
+
+        WormEvaluator.evaluate(value, 40, 10, 5, false, 0.5f);
+        assertEquals(5, value.getRectStart());
+        assertEquals(45, value.getRectEnd());
+    }
+
+    @Test
+    public void thinWorm_heightShrinksToRadiusInTheMiddle() {
+        ThinWormAnimationValue value = new ThinWormAnimationValue();
+
+        ThinWormEvaluator.evaluate(value, 10, 40, 6, true, 0f);
+        assertEquals(12, value.getHeight());
+
+        ThinWormEvaluator.evaluate(value, 10, 40, 6, true, 0.5f);
+        assertEquals(6, value.getHeight());
+
+        ThinWormEvaluator.evaluate(value, 10, 40, 6, true, 1f);
+        assertEquals(12, value.getHeight());
+        assertEquals(34, value.getRectStart());
+        assertEquals(46, value.getRectEnd());
+    }
+
+    @Test
+    public void drop_fallsDuringFirstHalfAndRisesBack() {
+        DropAnimationValue value = new DropAnimationValue();
+
+        DropEvaluator.evaluate(value, 10, 40, 6, 18, 6, 0.5f);
+        assertEquals(25, value.getWidth());
+        assertEquals(18, value.getHeight());
+        assertEquals(4, value.getRadius());
+
+        DropEvaluator.evaluate(value, 10, 40, 6, 18, 6, 1f);
+        assertEquals(40, value.getWidth());
+        assertEquals(6, value.getHeight());
+        assertEquals(6, value.getRadius());
+    }
+
+    @Test
+    public void scale_growsSelectingCircleAndShrinksPreviousOne() {
+        ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+
+        ScaleAnimationValue value = new ScaleAnimationValue();
+        ScaleEvaluator.evaluate(value, palette, 7, 10, 1f);
+
+        assertEquals(10, value.getRadius());
+        assertEquals(7, value.getRadiusReverse());
+        assertEquals(COLOR_END, value.getColor());
+        assertEquals(COLOR_START, value.getColorReverse());
+    }
+
+    @Test
+    public void fill_fillsSelectingCircleWithStroke() {
+        ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+
+        FillAnimationValue value = new FillAnimationValue();
+        FillEvaluator.evaluate(value, palette, 10, 1f);
+
+        assertEquals(5, value.getRadius());
+        assertEquals(10, value.getRadiusReverse());
+        assertEquals(10, value.getStroke());
+        assertEquals(0, value.getStrokeReverse());
+    }
+
+    @Test
+    public void slide_movesCircleToTarget() {
+        SlideAnimationValue value = new SlideAnimationValue();
+
+        SlideEvaluator.evaluate(value, 10, 40, 0.5f);
+        assertEquals(25, value.getCoordinate());
+
+        SlideEvaluator.evaluate(value, 10, 40, 1f);
+        assertEquals(40, value.getCoordinate());
+    }
+
+    @Test
+    public void evaluators_doNotAllocatePerFrame() {
+        final WormAnimationValue wormValue = new WormAnimationValue();
+        final ThinWormAnimationValue thinWormValue = new ThinWormAnimationValue();
+        final DropAnimationValue dropValue = new DropAnimationValue();
+        final ColorAnimationValue colorValue = new ColorAnimationValue();
+        final ScaleAnimationValue scaleValue = new ScaleAnimationValue();
+        final FillAnimationValue fillValue = new FillAnimationValue();
+        final SlideAnimationValue slideValue = new SlideAnimationValue();
+        final ColorPalette palette = new ColorPalette();
+        palette.setColors(COLOR_START, COLOR_END);
+
+        long allocated = AllocationCounter.measure(FRAMES, new Runnable() {
+            private int frame;
+
+            @Override
+            public void run() {
+                float progress = (frame++ % 100) / 100f;
+                WormEvaluator.evaluate(wormValue, 10, 40, 5, true, progress);
+                ThinWormEvaluator.evaluate(thinWormValue, 10, 40, 5, true, progress);
+                DropEvaluator.evaluate(dropValue, 10, 40, 6, 18, 6, progress);
+                ColorEvaluator.evaluate(colorValue, palette, progress);
+                ScaleEvaluator.evaluate(scaleValue, palette, 7, 10, progress);
+                ScaleEvaluator.evaluate(scaleValue, palette, 10, 7, progress);
+                FillEvaluator.evaluate(fillValue, palette, 10, progress);
+                SlideEvaluator.evaluate(slideValue, 10, 40, progress);
+            }
+        });
+
+        assertTrue("allocated " + allocated + " bytes", allocated < FRAMES);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import android.animation.TimeInterpolator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LookupInterpolatorTest {
+
+    private static final int CHECKS = 10_000;
+    private static final float MAX_ERROR = 1e-5f;
+
+    @Test
+    public void accelerateDecelerate_staysWithinErrorBound() {
+        assertMaxError(LookupInterpolator.CURVE_ACCELERATE_DECELERATE, MAX_ERROR);
+    }
+
+    @Test
+    public void accelerate_staysWithinErrorBound() {
+        assertMaxError(LookupInterpolator.CURVE_ACCELERATE, MAX_ERROR);
+    }
+
+    @Test
+    public void decelerate_staysWithinErrorBound() {
+        assertMaxError(LookupInterpolator.CURVE_DECELERATE, MAX_ERROR);
+    }
+
+    @Test
+    public void linear_isExact() {
+        assertMaxError(LookupInterpolator.CURVE_LINEAR, 1e-6f);
+    }
+
+    @Test
+    public void customCurve_returnsEndpointsOutsideRange() {
+        TimeInterpolator curve = new TimeInterpolator() {
+            @Override
+            public float getInterpolation(float input) {
+                return input * input * input;
+            }
+        };
+
+        LookupInterpolator interpolator = new LookupInterpolator(curve, 16);
+        assertEquals(16, interpolator.getSampleCount());
+        assertEquals(0f, interpolator.getInterpolation(-1f), 0f);
+        assertEquals(1f, interpolator.getInterpolation(2f), 0f);
+    }
+
+    private static void assertMaxError(TimeInterpolator curve, float maxError) {
+        LookupInterpolator interpolator = new LookupInterpolator(curve);
+        float error = 0;
+
+        for (int i = 0; i <= CHECKS; i++) {
+            float input = (float) i / CHECKS;
+            error = Math.max(error, Math.abs(interpolator.getInterpolation(input) - curve.getInterpolation(input)));
+        }
+
+        assertTrue("max error " + error, error <= maxError);
+    }
+}
@@ -0,0 +1,59 @@
+package com.pspdevelopers.materialonboard.widget.animation.evaluator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpringTest {
+
+    private static final float FRAME_SECONDS = 1 / 60f;
+    private static final long DURATION_MS = 350;
+    private static final int MAX_FRAMES = 1000;
+
+    @Test
+    public void releasedAtRest_settlesInDuration() {
+        Spring spring = new Spring();
+        spring.reset(0, 0, DURATION_MS);
+
+        int frames = framesToRest(spring);
+        int expectedFrames = Math.round(DURATION_MS / 1000f / FRAME_SECONDS);
+
+        assertTrue("settled after " + frames + " frames", Math.abs(frames - expectedFrames) <= 2);
+    }
+
+    @Test
+    public void fling_settlesFaster() {
+        Spring atRest = new Spring();
+        atRest.reset(0, 0, DURATION_MS);
+
+        Spring fling = new Spring();
+        fling.reset(0, 6, DURATION_MS);
+
+        assertTrue(framesToRest(fling) < framesToRest(atRest));
+    }
+
+    @Test
+    public void largeStep_staysStable() {
+        Spring spring = new Spring();
+        spring.reset(0, 20, DURATION_MS);
+
+        for (int i = 0; i < 10; i++) {
+            spring.step(1);
+            assertTrue(Math.abs(spring.getPosition() - 1) <= 1);
+        }
+
+        assertEquals(1, spring.getPosition(), Spring.REST_THRESHOLD);
+        assertTrue(spring.isAtRest());
+    }
+
+    private static int framesToRest(Spring spring) {
+        int frames = 0;
+        while (!spring.isAtRest() && frames < MAX_FRAMES) {
+            spring.step(FRAME_SECONDS);
+            frames++;
+        }
+
+        return frames;
+    }
+}
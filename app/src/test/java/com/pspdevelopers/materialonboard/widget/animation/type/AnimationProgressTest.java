@@ -0,0 +1,60 @@
+package com.pspdevelopers.materialonboard.widget.animation.type;
+
+import com.pspdevelopers.materialonboard.widget.AllocationCounter;
+import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+
+import androidx.annotation.Nullable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class AnimationProgressTest {
+
+    private static final int FRAMES = 100_000;
+
+    private static final int COLOR_START = 0x33ffffff;
+    private static final int COLOR_END = 0xff2196f3;
+
+    private static final ValueController.UpdateListener LISTENER = new ValueController.UpdateListener() {
+        @Override
+        public void onValueUpdated(@Nullable Value value) {
+        }
+    };
+
+    @Test
+    public void scale_progressDoesNotAllocatePerFrame() {
+        assertNoAllocation(new ScaleAnimation(LISTENER).with(COLOR_START, COLOR_END, 10, 0.7f));
+    }
+
+    @Test
+    public void scaleDown_progressDoesNotAllocatePerFrame() {
+        ScaleDownAnimation animation = new ScaleDownAnimation(LISTENER);
+        animation.with(COLOR_START, COLOR_END, 10, 0.7f);
+        assertNoAllocation(animation);
+    }
+
+    @Test
+    public void fill_progressDoesNotAllocatePerFrame() {
+        assertNoAllocation(new FillAnimation(LISTENER).with(COLOR_START, COLOR_END, 10, 2));
+    }
+
+    @Test
+    public void drop_progressDoesNotAllocatePerFrame() {
+        assertNoAllocation(new DropAnimation(LISTENER).with(10, 40, 18, 6, 6));
+    }
+
+    private static void assertNoAllocation(final BaseAnimation animation) {
+        long allocated = AllocationCounter.measure(FRAMES, new Runnable() {
+            private int frame;
+
+            @Override
+            public void run() {
+                animation.progress((frame++ % 100) / 100f);
+            }
+        });
+
+        assertTrue("allocated " + allocated + " bytes", allocated < FRAMES);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pspdevelopers.materialonboard.widget.draw.data;
+
+import com.pspdevelopers.materialonboard.widget.AllocationCounter;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.WormAnimationValue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotBufferTest {
+
+    private static final int FRAMES = 100_000;
+
+    private Indicator indicator;
+    private SnapshotBuffer buffer;
+
+    @Before
+    public void setUp() {
+        indicator = new Indicator();
+        indicator.setCount(5);
+        indicator.setRadius(10);
+        indicator.setSelectedPosition(1);
+        buffer = new SnapshotBuffer();
+    }
+
+    @Test
+    public void acquire_beforePublish_returnsNull() {
+        assertNull(buffer.acquire());
+    }
+
+    @Test
+    public void snapshot_doesNotFollowIndicatorChanges() {
+        IndicatorSnapshot snapshot = buffer.publish(indicator, null);
+        int[] coordinatesX = snapshot.getCoordinatesX().clone();
+
+        indicator.setSelectedPosition(3);
+        indicator.setRadius(20);
+
+        assertEquals(1, snapshot.getSelectedPosition());
+        assertEquals(10, snapshot.getRadius());
+        assertEquals(coordinatesX[4], snapshot.getCoordinatesX()[4]);
+        assertNotSame(indicator.getCoordinatesX(), snapshot.getCoordinatesX());
+    }
+
+    @Test
+    public void snapshot_copiesAnimationValue() {
+        WormAnimationValue value = new WormAnimationValue();
+        value.setRectStart(5);
+        value.setRectEnd(15);
+
+        IndicatorSnapshot snapshot = buffer.publish(indicator, value);
+        value.setRectStart(50);
+
+        WormAnimationValue copy = (WormAnimationValue) snapshot.getValue();
+        assertNotSame(value, copy);
+        assertEquals(5, copy.getRectStart());
+        assertEquals(15, copy.getRectEnd());
+    }
+
+    @Test
+    public void acquiredSnapshot_isNotRefilledByLaterFrames() {
+        buffer.publish(indicator, null);
+        IndicatorSnapshot acquired = buffer.acquire();
+        long frame = acquired.getFrame();
+
+        for (int i = 0; i < 10; i++) {
+            indicator.setSelectedPosition(i % 5);
+            assertNotSame(acquired, buffer.publish(indicator, null));
+        }
+
+        assertEquals(frame, acquired.getFrame());
+        assertEquals(1, acquired.getSelectedPosition());
+
+        buffer.release(acquired);
+        assertSame(buffer.peek(), buffer.acquire());
+    }
+
+    @Test
+    public void publish_doesNotAllocatePerFrame() {
+        final WormAnimationValue value = new WormAnimationValue();
+        buffer.publish(indicator, value);
+
+        long allocated = AllocationCounter.measure(FRAMES, new Runnable() {
+            private int frame;
+
+            @Override
+            public void run() {
+                value.setRectStart(frame++);
+                IndicatorSnapshot snapshot = buffer.acquire();
+                buffer.publish(indicator, value);
+                buffer.release(snapshot);
+            }
+        });
+
+        assertTrue("allocated " + allocated + " bytes", allocated < FRAMES);
+    }
+}
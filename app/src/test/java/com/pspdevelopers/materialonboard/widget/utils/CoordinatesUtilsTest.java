@@ -0,0 +1,101 @@
+package com.pspdevelopers.materialonboard.widget.utils;
+
+import com.pspdevelopers.materialonboard.widget.AllocationCounter;
+import com.pspdevelopers.materialonboard.widget.animation.controller.AnimationController;
+import com.pspdevelopers.materialonboard.widget.animation.controller.ValueController;
+import com.pspdevelopers.materialonboard.widget.animation.data.Value;
+import com.pspdevelopers.materialonboard.widget.animation.data.type.DropAnimationValue;
+import com.pspdevelopers.materialonboard.widget.animation.type.AnimationType;
+import com.pspdevelopers.materialonboard.widget.draw.data.Indicator;
+import com.pspdevelopers.materialonboard.widget.draw.data.ScrollProgress;
+
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CoordinatesUtilsTest {
+
+    private static final int SCROLL_EVENTS = 100_000;
+
+    private Indicator indicator;
+    private ScrollProgress progress;
+
+    @Before
+    public void setUp() {
+        indicator = new Indicator();
+        indicator.setCount(5);
+        indicator.setSelectedPosition(1);
+        progress = new ScrollProgress();
+    }
+
+    @Test
+    public void getProgress_scrollingForward_selectsNextPosition() {
+        CoordinatesUtils.getProgress(indicator, 1, 0.25f, false, progress);
+
+        assertEquals(2, progress.getSelectingPosition());
+        assertEquals(0.25f, progress.getSelectingProgress(), 0f);
+    }
+
+    @Test
+    public void getProgress_scrollingBackward_selectsPreviousPosition() {
+        CoordinatesUtils.getProgress(indicator, 0, 0.25f, false, progress);
+
+        assertEquals(0, progress.getSelectingPosition());
+        assertEquals(0.75f, progress.getSelectingProgress(), 0f);
+    }
+
+    @Test
+    public void dropRestingHeight_matchesRowCoordinate() {
+        indicator.setRadius(6);
+        indicator.setPaddingTop(4);
+        indicator.setAnimationType(AnimationType.DROP);
+        indicator.setSelectingPosition(2);
+        indicator.setInteractiveAnimation(true);
+
+        final DropAnimationValue[] result = new DropAnimationValue[1];
+        AnimationController controller = new AnimationController(indicator, new ValueController.UpdateListener() {
+            @Override
+            public void onValueUpdated(@Nullable Value value) {
+                result[0] = (DropAnimationValue) value;
+            }
+        });
+
+        controller.interactive(0f);
+        assertEquals(CoordinatesUtils.getYCoordinate(indicator, 1), result[0].getHeight());
+
+        controller.interactive(1f);
+        assertEquals(CoordinatesUtils.getYCoordinate(indicator, 2), result[0].getHeight());
+    }
+
+    @Test
+    public void getPosition_withTouchSlop_hitsDropCircleCenter() {
+        indicator.setRadius(6);
+        indicator.setTouchSlop(2);
+        indicator.setAnimationType(AnimationType.DROP);
+
+        int x = CoordinatesUtils.getXCoordinate(indicator, 3);
+        int y = CoordinatesUtils.getYCoordinate(indicator, 3);
+
+        assertEquals(3, CoordinatesUtils.getPosition(indicator, x, y));
+        assertEquals(-1, CoordinatesUtils.getPosition(indicator, x, y - 12));
+    }
+
+    @Test
+    public void getProgress_doesNotAllocatePerScrollEvent() {
+        long allocated = AllocationCounter.measure(SCROLL_EVENTS, new Runnable() {
+            private int event;
+
+            @Override
+            public void run() {
+                float offset = (event++ % 100) / 100f;
+                CoordinatesUtils.getProgress(indicator, 1, offset, false, progress);
+            }
+        });
+
+        assertTrue("allocated " + allocated + " bytes", allocated < SCROLL_EVENTS);
+    }
+}